@@ -0,0 +1,39 @@
+package br.edu.ifpr.teste.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import paranavai.calendario.Calendario;
+
+/**
+ * Renderização de um mês e de um ano inteiro pelo {@link Calendario}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class CalendarioBenchmark {
+
+    private final Calendario calendario = new Calendario();
+
+    @Benchmark
+    public String mes() {
+        return calendario.getCalendario("6", "2023");
+    }
+
+    @Benchmark
+    public String ano() {
+        return calendario.getCalendario("2023");
+    }
+}
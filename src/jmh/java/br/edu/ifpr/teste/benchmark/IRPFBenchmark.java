@@ -0,0 +1,54 @@
+package br.edu.ifpr.teste.benchmark;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.edu.ifpr.teste.servico.irpf.CalculadoraIRPF;
+
+/**
+ * {@link CalculadoraIRPF#calcularIRPF(BigDecimal)} e a versão em centavos com uma renda de cada faixa
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class IRPFBenchmark {
+
+    @Param({ "1000.00", "2500.00", "3000.00", "4000.00", "7000.00" })
+    public String renda;
+
+    private BigDecimal rendaMensal;
+    private long rendaCentavos;
+    private CalculadoraIRPF calculadora;
+
+    @Setup
+    public void preparar() {
+        rendaMensal = new BigDecimal(renda);
+        rendaCentavos = rendaMensal.movePointRight(2).longValueExact();
+        calculadora = new CalculadoraIRPF();
+    }
+
+    @Benchmark
+    public BigDecimal calcularIRPF() {
+        return calculadora.calcularIRPF(rendaMensal);
+    }
+
+    @Benchmark
+    public long calcularIRPFCentavos() {
+        return calculadora.calcularIRPF(rendaCentavos);
+    }
+}
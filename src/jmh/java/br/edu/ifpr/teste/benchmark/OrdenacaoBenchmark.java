@@ -0,0 +1,80 @@
+package br.edu.ifpr.teste.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.edu.ifpr.teste.servico.ordenacao.AlgoritmoOrdenacao;
+import br.edu.ifpr.teste.servico.ordenacao.EscritorNumeros;
+import br.edu.ifpr.teste.servico.ordenacao.ServicoOrdenacao;
+import br.edu.ifpr.teste.servico.ordenacao.VetorInteiros;
+
+/**
+ * Leitura, ordenação e formatação do {@link ServicoOrdenacao} de 1 mil a 10 milhões de números
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 3, jvmArgs = { "-Xms2g", "-Xmx2g" })
+public class OrdenacaoBenchmark {
+
+    @Param({ "1000", "100000", "10000000" })
+    public int tamanho;
+
+    @Param({ "sequencial", "automatico" })
+    public String algoritmo;
+
+    private byte[] arquivo;
+    private VetorInteiros original;
+    private VetorInteiros ordenado;
+    private ServicoOrdenacao servico;
+
+    @Setup(Level.Trial)
+    public void preparar() throws Exception {
+        servico = new ServicoOrdenacao(AlgoritmoOrdenacao.porNome(algoritmo));
+        int[] numeros = new Random(42).ints(tamanho).toArray();
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        try (EscritorNumeros escritor = new EscritorNumeros(saida)) {
+            escritor.escreverQuantidade(tamanho);
+            for (int numero : numeros) {
+                escritor.aceitar(numero);
+            }
+        }
+        arquivo = saida.toByteArray();
+        original = VetorInteiros.de(numeros);
+        ordenado = servico.ordenar(original);
+    }
+
+    @Benchmark
+    public VetorInteiros leitura() throws Exception {
+        return servico.obterVetorArquivo(new ByteArrayInputStream(arquivo));
+    }
+
+    @Benchmark
+    public VetorInteiros ordenacao() {
+        return servico.ordenar(original);
+    }
+
+    @Benchmark
+    public String formatacao() throws IOException {
+        return servico.prepararParaImpressao(ordenado);
+    }
+}
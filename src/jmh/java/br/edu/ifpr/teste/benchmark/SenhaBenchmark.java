@@ -0,0 +1,49 @@
+package br.edu.ifpr.teste.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.edu.ifpr.teste.excecao.SenhaException;
+import br.edu.ifpr.teste.servico.ordenacao.ServicoSenha;
+
+/**
+ * {@link ServicoSenha#validar(String)} para uma senha aceita e uma recusada
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class SenhaBenchmark {
+
+    private final ServicoSenha servico = new ServicoSenha();
+
+    @Benchmark
+    public boolean senhaValida() {
+        return validar("Senha#123");
+    }
+
+    @Benchmark
+    public boolean senhaInvalida() {
+        return validar("Senha123");
+    }
+
+    private boolean validar(String senha) {
+        try {
+            servico.validar(senha);
+            return true;
+        } catch (SenhaException e) {
+            return false;
+        }
+    }
+}
@@ -6,4 +6,12 @@ public class SenhaException extends Exception {
         super(mensagem);
     }
 
-}
\ No newline at end of file
+    /**
+     * @param capturarPilha false evita o custo de preencher a pilha de chamadas,
+     * útil quando a exceção só transporta a mensagem
+     */
+    public SenhaException(String mensagem, boolean capturarPilha) {
+        super(mensagem, null, capturarPilha, capturarPilha);
+    }
+
+}
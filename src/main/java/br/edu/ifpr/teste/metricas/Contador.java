@@ -0,0 +1,40 @@
+package br.edu.ifpr.teste.metricas;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contador sem bloqueio. Com as métricas desligadas, as chamadas não fazem nada.
+ */
+public final class Contador {
+    
+    private final String nome;
+    private final LongAdder valor = new LongAdder();
+    
+    Contador(String nome) {
+        this.nome = nome;
+    }
+    
+    public void incrementar() {
+        if (Metricas.ATIVAS) {
+            valor.increment();
+        }
+    }
+    
+    public void adicionar(long quantidade) {
+        if (Metricas.ATIVAS) {
+            valor.add(quantidade);
+        }
+    }
+    
+    public long getValor() {
+        return valor.sum();
+    }
+    
+    public String getNome() {
+        return nome;
+    }
+    
+    void zerar() {
+        valor.reset();
+    }
+}
@@ -0,0 +1,121 @@
+package br.edu.ifpr.teste.metricas;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latências em nanossegundos com baldes log-lineares, no
+ * estilo do HdrHistogram: cada potência de 2 é dividida em 8 baldes, o que
+ * limita o erro relativo dos percentis a 12,5%. O registro é sem bloqueio
+ * e não aloca.
+ */
+public final class Histograma {
+    
+    private static final int BITS_SUBBALDE = 3;
+    private static final int SUBBALDES = 1 << BITS_SUBBALDE;
+    private static final int BALDES = (64 - BITS_SUBBALDE + 1) * SUBBALDES;
+    
+    private final String nome;
+    private final AtomicLongArray baldes = new AtomicLongArray(BALDES);
+    private final LongAdder quantidade = new LongAdder();
+    private final LongAdder soma = new LongAdder();
+    private final LongAccumulator maximo = new LongAccumulator(Math::max, 0);
+    
+    Histograma(String nome) {
+        this.nome = nome;
+    }
+    
+    public void registrar(long valor) {
+        if (!Metricas.ATIVAS) {
+            return;
+        }
+        long positivo = Math.max(valor, 0);
+        baldes.incrementAndGet(balde(positivo));
+        quantidade.increment();
+        soma.add(positivo);
+        maximo.accumulate(positivo);
+    }
+    
+    /**
+     * Registra o tempo decorrido desde {@code inicio}, obtido de {@link Metricas#inicio()}
+     */
+    public void registrarDesde(long inicio) {
+        if (Metricas.ATIVAS) {
+            registrar(System.nanoTime() - inicio);
+        }
+    }
+    
+    // Valores abaixo de 8 têm balde próprio; acima, expoente e os 3 bits seguintes ao mais alto
+    private static int balde(long valor) {
+        if (valor < SUBBALDES) {
+            return (int) valor;
+        }
+        int expoente = 63 - Long.numberOfLeadingZeros(valor);
+        int subbalde = (int) (valor >>> (expoente - BITS_SUBBALDE)) & (SUBBALDES - 1);
+        return (expoente - BITS_SUBBALDE + 1) * SUBBALDES + subbalde;
+    }
+    
+    // Maior valor que cai no balde
+    private static long limiteSuperior(int balde) {
+        if (balde < SUBBALDES) {
+            return balde;
+        }
+        int expoente = balde / SUBBALDES + BITS_SUBBALDE - 1;
+        long base = (long) (SUBBALDES + balde % SUBBALDES) << (expoente - BITS_SUBBALDE);
+        return base + (1L << (expoente - BITS_SUBBALDE)) - 1;
+    }
+    
+    /**
+     * Valor abaixo do qual estão {@code percentil}% das medidas, com o erro do balde
+     */
+    public long percentil(double percentil) {
+        if (percentil < 0 || percentil > 100) {
+            throw new IllegalArgumentException("O percentil deve estar entre 0 e 100");
+        }
+        long total = 0;
+        long[] copia = new long[BALDES];
+        for (int i = 0; i < BALDES; i++) {
+            copia[i] = baldes.get(i);
+            total += copia[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long alvo = Math.max(1, (long) Math.ceil(total * percentil / 100));
+        long acumulado = 0;
+        for (int i = 0; i < BALDES; i++) {
+            acumulado += copia[i];
+            if (acumulado >= alvo) {
+                return Math.min(limiteSuperior(i), getMaximo());
+            }
+        }
+        return getMaximo();
+    }
+    
+    public long getQuantidade() {
+        return quantidade.sum();
+    }
+    
+    public double getMedia() {
+        long n = quantidade.sum();
+        return n == 0 ? 0 : (double) soma.sum() / n;
+    }
+    
+    public long getMaximo() {
+        return maximo.get();
+    }
+    
+    public String getNome() {
+        return nome;
+    }
+    
+    void zerar() {
+        for (int i = 0; i < BALDES; i++) {
+            baldes.set(i, 0);
+        }
+        quantidade.reset();
+        soma.reset();
+        maximo.reset();
+    }
+}
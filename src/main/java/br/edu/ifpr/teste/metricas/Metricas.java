@@ -0,0 +1,164 @@
+package br.edu.ifpr.teste.metricas;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Registro global de contadores e histogramas dos serviços.
+ *
+ * As métricas só são coletadas com {@code -Dbr.edu.ifpr.teste.metricas=true}.
+ * A chave é lida uma vez em uma constante, então, desligadas, o JIT elimina
+ * as chamadas e o custo é praticamente zero. Os valores podem ser exportados
+ * como texto ({@link #despejar(Appendable)}) ou via JMX ({@link #registrarJmx()}).
+ */
+public final class Metricas {
+    
+    public static final String PROPRIEDADE = "br.edu.ifpr.teste.metricas";
+    public static final boolean ATIVAS = Boolean.getBoolean(PROPRIEDADE);
+    public static final String NOME_JMX = "br.edu.ifpr.teste:type=Metricas";
+    
+    private static final ConcurrentMap<String, Contador> CONTADORES = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, Histograma> HISTOGRAMAS = new ConcurrentHashMap<>();
+    
+    private Metricas() {
+    }
+    
+    /**
+     * Contador com o nome, criado na primeira chamada. Guarde o retorno em
+     * um campo em vez de buscar a cada uso.
+     */
+    public static Contador contador(String nome) {
+        return CONTADORES.computeIfAbsent(nome, Contador::new);
+    }
+    
+    public static Histograma histograma(String nome) {
+        return HISTOGRAMAS.computeIfAbsent(nome, Histograma::new);
+    }
+    
+    /**
+     * Marca de tempo para {@link Histograma#registrarDesde(long)}; zero se as métricas estiverem desligadas
+     */
+    public static long inicio() {
+        return ATIVAS ? System.nanoTime() : 0;
+    }
+    
+    /**
+     * Escreve todas as métricas em ordem alfabética, uma por linha
+     */
+    public static void despejar(Appendable destino) throws IOException {
+        for (Contador contador : new TreeMap<>(CONTADORES).values()) {
+            destino.append(contador.getNome()).append(' ').append(Long.toString(contador.getValor())).append('\n');
+        }
+        for (Histograma histograma : new TreeMap<>(HISTOGRAMAS).values()) {
+            destino.append(String.format(Locale.ROOT,
+                    "%s n=%d media=%.0fns p50=%dns p99=%dns p999=%dns max=%dns%n",
+                    histograma.getNome(), histograma.getQuantidade(), histograma.getMedia(),
+                    histograma.percentil(50), histograma.percentil(99), histograma.percentil(99.9),
+                    histograma.getMaximo()));
+        }
+    }
+    
+    /**
+     * Zera todos os valores, mantendo as métricas registradas
+     */
+    public static void zerar() {
+        CONTADORES.values().forEach(Contador::zerar);
+        HISTOGRAMAS.values().forEach(Histograma::zerar);
+    }
+    
+    /**
+     * Publica as métricas no MBeanServer da plataforma como {@link #NOME_JMX};
+     * chamadas repetidas não têm efeito
+     */
+    public static synchronized void registrarJmx() throws JMException {
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        ObjectName nome = new ObjectName(NOME_JMX);
+        if (!servidor.isRegistered(nome)) {
+            servidor.registerMBean(new MBeanMetricas(), nome);
+        }
+    }
+    
+    /**
+     * Expõe cada contador como um atributo e cada histograma como os atributos
+     * {@code nome.quantidade}, {@code nome.p50}, {@code nome.p99} e {@code nome.maximo}
+     */
+    private static class MBeanMetricas implements DynamicMBean {
+        
+        private Map<String, Object> valores() {
+            Map<String, Object> valores = new TreeMap<>();
+            for (Contador contador : CONTADORES.values()) {
+                valores.put(contador.getNome(), contador.getValor());
+            }
+            for (Histograma histograma : HISTOGRAMAS.values()) {
+                valores.put(histograma.getNome() + ".quantidade", histograma.getQuantidade());
+                valores.put(histograma.getNome() + ".p50", histograma.percentil(50));
+                valores.put(histograma.getNome() + ".p99", histograma.percentil(99));
+                valores.put(histograma.getNome() + ".maximo", histograma.getMaximo());
+            }
+            return valores;
+        }
+        
+        @Override
+        public Object getAttribute(String atributo) throws AttributeNotFoundException {
+            Object valor = valores().get(atributo);
+            if (valor == null) {
+                throw new AttributeNotFoundException(atributo);
+            }
+            return valor;
+        }
+        
+        @Override
+        public AttributeList getAttributes(String[] atributos) {
+            Map<String, Object> valores = valores();
+            AttributeList lista = new AttributeList();
+            for (String atributo : atributos) {
+                if (valores.containsKey(atributo)) {
+                    lista.add(new Attribute(atributo, valores.get(atributo)));
+                }
+            }
+            return lista;
+        }
+        
+        @Override
+        public MBeanInfo getMBeanInfo() {
+            List<MBeanAttributeInfo> atributos = new ArrayList<>();
+            for (String nome : valores().keySet()) {
+                atributos.add(new MBeanAttributeInfo(nome, "long", nome, true, false, false));
+            }
+            return new MBeanInfo(Metricas.class.getName(), "Métricas dos serviços",
+                    atributos.toArray(new MBeanAttributeInfo[0]), null, null, null);
+        }
+        
+        @Override
+        public void setAttribute(Attribute atributo) {
+            throw new UnsupportedOperationException("Métricas são somente leitura");
+        }
+        
+        @Override
+        public AttributeList setAttributes(AttributeList atributos) {
+            return new AttributeList();
+        }
+        
+        @Override
+        public Object invoke(String acao, Object[] parametros, String[] assinatura) {
+            throw new UnsupportedOperationException(acao);
+        }
+    }
+}
@@ -1,31 +1,58 @@
 package br.edu.ifpr.teste.servico.irpf;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.stream.IntStream;
+
+import br.edu.ifpr.teste.metricas.Contador;
+import br.edu.ifpr.teste.metricas.Histograma;
+import br.edu.ifpr.teste.metricas.Metricas;
 
 /**
  * Classe responsável por calcular o Imposto de Renda Pessoa Física (IRPF)
  * baseado na renda mensal.
+ * 
+ * As faixas, alíquotas e deduções vêm de uma {@link TabelaIRPF}; por padrão
+ * é usada {@link TabelaIRPF#padrao()}. Os métodos que recebem a competência
+ * escolhem a tabela vigente no histórico de {@link TabelasIRPF}.
  */
 public class CalculadoraIRPF {
     
-    // Constantes para as faixas de renda
-    private static final BigDecimal LIMITE_FAIXA1 = new BigDecimal("1903.98");
-    private static final BigDecimal LIMITE_FAIXA2 = new BigDecimal("2826.65");
-    private static final BigDecimal LIMITE_FAIXA3 = new BigDecimal("3751.05");
-    private static final BigDecimal LIMITE_FAIXA4 = new BigDecimal("4664.68");
+    private static final int TAMANHO_BLOCO_PARALELO = 1 << 16;
     
-    // Constantes para as alíquotas
-    private static final BigDecimal ALIQUOTA_FAIXA1 = new BigDecimal("0.075"); // 7.5%
-    private static final BigDecimal ALIQUOTA_FAIXA2 = new BigDecimal("0.15");  // 15%
-    private static final BigDecimal ALIQUOTA_FAIXA3 = new BigDecimal("0.225"); // 22.5%
-    private static final BigDecimal ALIQUOTA_FAIXA4 = new BigDecimal("0.275"); // 27.5%
+    // Latência dos cálculos individuais por faixa (1 a 8; a última também recebe as faixas acima)
+    private static final Histograma[] LATENCIA_FAIXA = new Histograma[8];
+    private static final Histograma LOTE = Metricas.histograma("irpf.lote");
+    private static final Contador RENDAS_LOTE = Metricas.contador("irpf.lote.rendas");
     
-    // Constantes para as deduções
-    private static final BigDecimal DEDUCAO_FAIXA1 = new BigDecimal("142.80");
-    private static final BigDecimal DEDUCAO_FAIXA2 = new BigDecimal("354.80");
-    private static final BigDecimal DEDUCAO_FAIXA3 = new BigDecimal("636.13");
-    private static final BigDecimal DEDUCAO_FAIXA4 = new BigDecimal("869.36");
+    static {
+        for (int i = 0; i < LATENCIA_FAIXA.length; i++) {
+            LATENCIA_FAIXA[i] = Metricas.histograma("irpf.faixa." + (i + 1));
+        }
+    }
+    
+    private final TabelaIRPF tabela;
+    private final TabelasIRPF historico;
+    
+    public CalculadoraIRPF() {
+        this(TabelaIRPF.padrao());
+    }
+    
+    /**
+     * @param tabela Tabela usada nos cálculos sem competência
+     */
+    public CalculadoraIRPF(TabelaIRPF tabela) {
+        this(tabela, null);
+    }
+    
+    /**
+     * @param tabela Tabela usada nos cálculos sem competência
+     * @param historico Tabelas usadas nos cálculos com competência; null para {@link TabelasIRPF#padrao()}
+     */
+    public CalculadoraIRPF(TabelaIRPF tabela, TabelasIRPF historico) {
+        this.tabela = tabela;
+        this.historico = historico;
+    }
     
     /**
      * Calcula o IRPF com base na renda mensal
@@ -34,39 +61,142 @@ public class CalculadoraIRPF {
      * @throws IllegalArgumentException se a renda for negativa
      */
     public BigDecimal calcularIRPF(BigDecimal rendaMensal) {
-        // Validação da entrada
-        if (rendaMensal.compareTo(BigDecimal.ZERO) < 0) {
-            throw new IllegalArgumentException("A renda não pode ser negativa");
+        long inicio = Metricas.inicio();
+        BigDecimal imposto = tabela.calcular(rendaMensal);
+        if (Metricas.ATIVAS) {
+            LATENCIA_FAIXA[Math.min(tabela.faixa(rendaMensal), LATENCIA_FAIXA.length - 1)].registrarDesde(inicio);
         }
-        
-        // Cálculo do imposto conforme a faixa de renda
-        BigDecimal imposto;
-        
-        if (rendaMensal.compareTo(LIMITE_FAIXA1) <= 0) {
-            // Faixa isenta
-            imposto = BigDecimal.ZERO;
-        } else if (rendaMensal.compareTo(LIMITE_FAIXA2) <= 0) {
-            // Primeira faixa: 7.5%
-            imposto = rendaMensal.multiply(ALIQUOTA_FAIXA1).subtract(DEDUCAO_FAIXA1);
-        } else if (rendaMensal.compareTo(LIMITE_FAIXA3) <= 0) {
-            // Segunda faixa: 15%
-            imposto = rendaMensal.multiply(ALIQUOTA_FAIXA2).subtract(DEDUCAO_FAIXA2);
-        } else if (rendaMensal.compareTo(LIMITE_FAIXA4) <= 0) {
-            // Terceira faixa: 22.5%
-            imposto = rendaMensal.multiply(ALIQUOTA_FAIXA3).subtract(DEDUCAO_FAIXA3);
-        } else {
-            // Quarta faixa: 27.5%
-            imposto = rendaMensal.multiply(ALIQUOTA_FAIXA4).subtract(DEDUCAO_FAIXA4);
+        return imposto;
+    }
+    
+    /**
+     * Calcula o IRPF com a tabela vigente na competência
+     * @param rendaMensal A renda mensal em reais
+     * @param competencia O mês a que a renda se refere
+     * @return O valor do imposto a ser pago
+     * @throws IllegalArgumentException se a renda for negativa ou se não houver tabela vigente
+     */
+    public BigDecimal calcularIRPF(BigDecimal rendaMensal, YearMonth competencia) {
+        long inicio = Metricas.inicio();
+        TabelaIRPF vigente = getHistorico().tabelaVigente(competencia);
+        BigDecimal imposto = vigente.calcular(rendaMensal);
+        if (Metricas.ATIVAS) {
+            LATENCIA_FAIXA[Math.min(vigente.faixa(rendaMensal), LATENCIA_FAIXA.length - 1)].registrarDesde(inicio);
         }
-        
-        // Arredonda para 2 casas decimais e verifica valor mínimo
-        imposto = imposto.setScale(2, RoundingMode.HALF_UP);
-        
-        // Se o imposto calculado for negativo, retorna zero
-        if (imposto.compareTo(BigDecimal.ZERO) < 0) {
-            imposto = BigDecimal.ZERO;
+        return imposto;
+    }
+    
+    /**
+     * Calcula o IRPF com aritmética inteira, sem criar objetos. O resultado é
+     * idêntico ao de {@link #calcularIRPF(BigDecimal)}, inclusive no
+     * arredondamento HALF_UP para centavos.
+     * @param rendaCentavos A renda mensal em centavos
+     * @return O valor do imposto em centavos
+     * @throws IllegalArgumentException se a renda for negativa
+     * @throws ArithmeticException se a renda passar de 33 quatrilhões de centavos
+     */
+    public long calcularIRPF(long rendaCentavos) {
+        long inicio = Metricas.inicio();
+        long imposto = tabela.calcularCentavos(rendaCentavos);
+        registrar(tabela, rendaCentavos, inicio);
+        return imposto;
+    }
+    
+    /**
+     * Igual a {@link #calcularIRPF(long)}, com a tabela vigente na competência
+     */
+    public long calcularIRPF(long rendaCentavos, YearMonth competencia) {
+        long inicio = Metricas.inicio();
+        TabelaIRPF vigente = getHistorico().tabelaVigente(competencia);
+        long imposto = vigente.calcularCentavos(rendaCentavos);
+        registrar(vigente, rendaCentavos, inicio);
+        return imposto;
+    }
+    
+    /**
+     * Calcula o IRPF em centavos para todas as rendas do array, no mesmo
+     * formato de {@link #calcularIRPF(long)}
+     * @param rendasCentavos As rendas mensais em centavos
+     * @param impostosCentavos Recebe o imposto de cada renda, na mesma posição
+     * @throws IllegalArgumentException se alguma renda for negativa ou se os arrays tiverem tamanhos diferentes
+     * @throws ArithmeticException se alguma renda passar de 33 quatrilhões de centavos
+     */
+    public void calcularIRPF(long[] rendasCentavos, long[] impostosCentavos) {
+        calcularLote(tabela, rendasCentavos, impostosCentavos, false);
+    }
+    
+    /**
+     * Igual a {@link #calcularIRPF(long[], long[])}, mas divide arrays grandes
+     * em blocos calculados em paralelo
+     */
+    public void calcularIRPFParalelo(long[] rendasCentavos, long[] impostosCentavos) {
+        calcularLote(tabela, rendasCentavos, impostosCentavos, true);
+    }
+    
+    /**
+     * Igual a {@link #calcularIRPF(long[], long[])}, com a tabela vigente na competência
+     */
+    public void calcularIRPF(long[] rendasCentavos, long[] impostosCentavos, YearMonth competencia, boolean paralelo) {
+        calcularLote(getHistorico().tabelaVigente(competencia), rendasCentavos, impostosCentavos, paralelo);
+    }
+    
+    /**
+     * Calcula o IRPF para todas as rendas do array usando o cálculo em
+     * centavos; rendas com mais de duas casas decimais usam o cálculo com
+     * {@link BigDecimal}
+     * @param rendasMensais As rendas mensais em reais
+     * @return O imposto de cada renda, na mesma posição
+     * @throws IllegalArgumentException se alguma renda for negativa
+     */
+    public BigDecimal[] calcularIRPF(BigDecimal[] rendasMensais) {
+        BigDecimal[] impostos = new BigDecimal[rendasMensais.length];
+        for (int i = 0; i < rendasMensais.length; i++) {
+            BigDecimal renda = rendasMensais[i];
+            if (tabela.aceitaCentavos(renda)) {
+                impostos[i] = BigDecimal.valueOf(tabela.calcularCentavos(renda.movePointRight(2).longValueExact()), 2);
+            } else {
+                impostos[i] = tabela.calcular(renda);
+            }
+        }
+        return impostos;
+    }
+    
+    public TabelaIRPF getTabela() {
+        return tabela;
+    }
+    
+    public TabelasIRPF getHistorico() {
+        return historico != null ? historico : TabelasIRPF.padrao();
+    }
+    
+    private static void registrar(TabelaIRPF tabela, long rendaCentavos, long inicio) {
+        if (Metricas.ATIVAS) {
+            LATENCIA_FAIXA[Math.min(tabela.faixa(rendaCentavos), LATENCIA_FAIXA.length - 1)].registrarDesde(inicio);
+        }
+    }
+    
+    private static void calcularLote(TabelaIRPF tabela, long[] rendasCentavos, long[] impostosCentavos, boolean paralelo) {
+        long inicio = Metricas.inicio();
+        calcularBlocos(tabela, rendasCentavos, impostosCentavos, paralelo);
+        LOTE.registrarDesde(inicio);
+        RENDAS_LOTE.adicionar(rendasCentavos.length);
+    }
+    
+    private static void calcularBlocos(TabelaIRPF tabela, long[] rendasCentavos, long[] impostosCentavos, boolean paralelo) {
+        if (rendasCentavos.length != impostosCentavos.length) {
+            throw new IllegalArgumentException("Os arrays de rendas e impostos devem ter o mesmo tamanho");
         }
+        tabela.validarCentavos(rendasCentavos);
         
-        return imposto;
+        int quantidade = rendasCentavos.length;
+        if (!paralelo || quantidade <= TAMANHO_BLOCO_PARALELO) {
+            tabela.calcularCentavos(rendasCentavos, impostosCentavos, 0, quantidade);
+            return;
+        }
+        int blocos = (quantidade + TAMANHO_BLOCO_PARALELO - 1) / TAMANHO_BLOCO_PARALELO;
+        IntStream.range(0, blocos).parallel().forEach(bloco -> {
+            int inicio = bloco * TAMANHO_BLOCO_PARALELO;
+            tabela.calcularCentavos(rendasCentavos, impostosCentavos, inicio, Math.min(inicio + TAMANHO_BLOCO_PARALELO, quantidade));
+        });
     }
-}
\ No newline at end of file
+}
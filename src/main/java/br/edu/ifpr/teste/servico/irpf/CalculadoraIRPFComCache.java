@@ -0,0 +1,158 @@
+package br.edu.ifpr.teste.servico.irpf;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link CalculadoraIRPF} que memoriza os resultados sem competência. Em
+ * folhas de pagamento muitas rendas se repetem (salário mínimo, degraus de
+ * carreira), então a maior parte das chamadas vira uma consulta ao cache.
+ *
+ * O cache é limitado e descarta a renda usada há mais tempo (LRU). Para
+ * suportar muitas threads ele é dividido em segmentos, cada um com o seu
+ * próprio {@link LinkedHashMap} e bloqueio. A chave é a renda com escala 2;
+ * rendas já nessa escala, o caso comum, são usadas como chave sem nenhuma
+ * normalização, e rendas com mais de duas casas decimais não passam pelo cache.
+ *
+ * O cálculo em centavos ({@link #calcularIRPF(long)}) não passa pelo cache:
+ * ele já não aloca nada e custa menos que a consulta.
+ */
+public class CalculadoraIRPFComCache extends CalculadoraIRPF {
+    
+    private final Segmento[] segmentos;
+    private final int capacidade;
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+    
+    /**
+     * @param capacidade quantidade máxima de rendas memorizadas
+     */
+    public CalculadoraIRPFComCache(int capacidade) {
+        this(TabelaIRPF.padrao(), null, capacidade);
+    }
+    
+    public CalculadoraIRPFComCache(TabelaIRPF tabela, int capacidade) {
+        this(tabela, null, capacidade);
+    }
+    
+    public CalculadoraIRPFComCache(TabelaIRPF tabela, TabelasIRPF historico, int capacidade) {
+        super(tabela, historico);
+        if (capacidade < 1) {
+            throw new IllegalArgumentException("A capacidade do cache deve ser positiva");
+        }
+        this.capacidade = capacidade;
+        
+        // Potência de 2 com uns quatro segmentos por processador, sem passar da capacidade
+        int quantidade = Integer.highestOneBit(Math.max(1, Math.min(capacidade,
+                4 * Runtime.getRuntime().availableProcessors())));
+        int capacidadeSegmento = (capacidade + quantidade - 1) / quantidade;
+        this.segmentos = new Segmento[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            this.segmentos[i] = new Segmento(capacidadeSegmento);
+        }
+    }
+    
+    @Override
+    public BigDecimal calcularIRPF(BigDecimal rendaMensal) {
+        BigDecimal chave = rendaMensal;
+        if (chave.scale() != 2) {
+            if (chave.scale() > 2 && chave.stripTrailingZeros().scale() > 2) {
+                return super.calcularIRPF(rendaMensal);
+            }
+            chave = chave.setScale(2);
+        }
+        return consultar(chave);
+    }
+    
+    private BigDecimal consultar(BigDecimal chave) {
+        int hash = chave.hashCode();
+        hash ^= hash >>> 16;
+        Segmento segmento = segmentos[hash & (segmentos.length - 1)];
+        
+        BigDecimal valor;
+        synchronized (segmento) {
+            valor = segmento.get(chave);
+        }
+        if (valor != null) {
+            acertos.increment();
+            return valor;
+        }
+        
+        // Calcula fora do bloqueio; duas threads podem calcular a mesma renda, com o mesmo resultado
+        falhas.increment();
+        valor = super.calcularIRPF(chave);
+        synchronized (segmento) {
+            segmento.put(chave, valor);
+        }
+        return valor;
+    }
+    
+    public long getAcertos() {
+        return acertos.sum();
+    }
+    
+    public long getFalhas() {
+        return falhas.sum();
+    }
+    
+    /**
+     * Fração das consultas respondidas pelo cache, entre 0 e 1
+     */
+    public double getTaxaAcerto() {
+        long a = acertos.sum();
+        long total = a + falhas.sum();
+        return total == 0 ? 0 : (double) a / total;
+    }
+    
+    public int getCapacidade() {
+        return capacidade;
+    }
+    
+    /**
+     * Quantidade de rendas memorizadas
+     */
+    public int getTamanho() {
+        int tamanho = 0;
+        for (Segmento segmento : segmentos) {
+            synchronized (segmento) {
+                tamanho += segmento.size();
+            }
+        }
+        return tamanho;
+    }
+    
+    /**
+     * Esvazia o cache e zera as estatísticas
+     */
+    public void limpar() {
+        for (Segmento segmento : segmentos) {
+            synchronized (segmento) {
+                segmento.clear();
+            }
+        }
+        acertos.reset();
+        falhas.reset();
+    }
+    
+    /**
+     * Mapa em ordem de acesso que descarta o mais antigo ao passar da capacidade
+     */
+    private static final class Segmento extends LinkedHashMap<BigDecimal, BigDecimal> {
+        
+        private static final long serialVersionUID = 1L;
+        
+        private final int capacidade;
+        
+        Segmento(int capacidade) {
+            super(16, 0.75f, true);
+            this.capacidade = capacidade;
+        }
+        
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<BigDecimal, BigDecimal> maisAntigo) {
+            return size() > capacidade;
+        }
+    }
+}
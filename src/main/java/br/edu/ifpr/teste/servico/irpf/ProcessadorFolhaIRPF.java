@@ -0,0 +1,473 @@
+package br.edu.ifpr.teste.servico.irpf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+/**
+ * Processa exportações de folha de pagamento em CSV: lê a coluna de renda
+ * de cada linha, calcula o IRPF e grava o CSV original com uma coluna a mais
+ * para o imposto, acumulando os totais por faixa.
+ *
+ * As linhas são lidas como bytes e agrupadas em lotes, calculados em
+ * paralelo e gravados na ordem de entrada; apenas alguns lotes ficam em
+ * memória ao mesmo tempo. A renda é convertida direto dos bytes para
+ * centavos; valores com mais de duas casas decimais usam {@link BigDecimal}.
+ */
+public class ProcessadorFolhaIRPF {
+    
+    private static final int TAMANHO_BUFFER = 1 << 20;
+    
+    private final TabelaIRPF tabela;
+    private final String colunaRenda;
+    private final byte separador;
+    private final byte separadorDecimal;
+    private final byte separadorMilhar;
+    private String colunaImposto = "irpf";
+    private int tamanhoLote = 8192;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    
+    /**
+     * @param tabela Tabela usada no cálculo
+     * @param colunaRenda Nome da coluna de renda no cabeçalho
+     * @param separador Separador de campos, como {@code ';'}
+     * @param separadorDecimal {@code ','} ou {@code '.'}; o outro é tratado como separador de milhar
+     */
+    public ProcessadorFolhaIRPF(TabelaIRPF tabela, String colunaRenda, char separador, char separadorDecimal) {
+        if (separadorDecimal != ',' && separadorDecimal != '.') {
+            throw new IllegalArgumentException("O separador decimal deve ser ',' ou '.'");
+        }
+        if (separador == separadorDecimal || separador == '"' || separador > 127) {
+            throw new IllegalArgumentException("Separador de campos inválido: " + separador);
+        }
+        this.tabela = tabela;
+        this.colunaRenda = colunaRenda;
+        this.separador = (byte) separador;
+        this.separadorDecimal = (byte) separadorDecimal;
+        this.separadorMilhar = (byte) (separadorDecimal == ',' ? '.' : ',');
+    }
+    
+    public void setColunaImposto(String colunaImposto) {
+        this.colunaImposto = colunaImposto;
+    }
+    
+    public void setTamanhoLote(int tamanhoLote) {
+        if (tamanhoLote < 1) {
+            throw new IllegalArgumentException("O tamanho do lote deve ser positivo");
+        }
+        this.tamanhoLote = tamanhoLote;
+    }
+    
+    public void setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("A quantidade de threads deve ser positiva");
+        }
+        this.threads = threads;
+    }
+    
+    /**
+     * Lê o CSV da entrada e grava o CSV com a coluna de imposto na saída.
+     * Os fluxos não são fechados.
+     * @return Os totais por faixa
+     * @throws IllegalArgumentException se faltar a coluna de renda ou alguma renda for inválida
+     */
+    public ResumoFolhaIRPF processar(InputStream entrada, OutputStream saida) throws IOException {
+        ExecutorService executor = threads > 1 ? Executors.newFixedThreadPool(threads) : null;
+        try {
+            return new Execucao(entrada, saida, executor).executar();
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+    }
+    
+    /**
+     * Estado de um processamento: leitura das linhas, fila de lotes em
+     * andamento e totais já consolidados
+     */
+    private class Execucao {
+        
+        private final InputStream entrada;
+        private final OutputStream saida;
+        private final ExecutorService executor;
+        private final Deque<Future<Lote>> emAndamento = new ArrayDeque<>();
+        private final int maximoEmAndamento;
+        private final ResumoFolhaIRPF resumo = new ResumoFolhaIRPF(tabela.getQuantidadeFaixas(), (char) separadorDecimal);
+        
+        private int indiceColuna = -1;
+        private long linhasLidas;
+        
+        Execucao(InputStream entrada, OutputStream saida, ExecutorService executor) {
+            this.entrada = entrada;
+            this.saida = saida;
+            this.executor = executor;
+            this.maximoEmAndamento = 2 * threads;
+        }
+        
+        ResumoFolhaIRPF executar() throws IOException {
+            byte[] buffer = new byte[TAMANHO_BUFFER];
+            Lote lote = new Lote(linhasLidas);
+            int lidos;
+            while ((lidos = entrada.read(buffer)) >= 0) {
+                int inicio = 0;
+                for (int i = 0; i < lidos; i++) {
+                    if (buffer[i] == '\n') {
+                        lote.acrescentar(buffer, inicio, i - inicio);
+                        inicio = i + 1;
+                        lote = terminarLinha(lote);
+                    }
+                }
+                lote.acrescentar(buffer, inicio, lidos - inicio);
+            }
+            if (lote.temLinhaAberta()) {
+                lote = terminarLinha(lote);
+            }
+            if (indiceColuna < 0) {
+                throw new IllegalArgumentException("Arquivo sem cabeçalho");
+            }
+            if (lote.quantidade > 0) {
+                enviar(lote);
+            }
+            while (!emAndamento.isEmpty()) {
+                gravar(emAndamento.removeFirst());
+            }
+            saida.flush();
+            return resumo;
+        }
+        
+        private Lote terminarLinha(Lote lote) throws IOException {
+            lote.terminarLinha();
+            linhasLidas++;
+            if (indiceColuna < 0) {
+                processarCabecalho(lote);
+                return new Lote(linhasLidas);
+            }
+            if (lote.quantidade == tamanhoLote) {
+                enviar(lote);
+                return new Lote(linhasLidas);
+            }
+            return lote;
+        }
+        
+        private void processarCabecalho(Lote lote) throws IOException {
+            String cabecalho = new String(lote.dados, 0, lote.fins[0], StandardCharsets.UTF_8);
+            // Literal, e não expressão regular: separadores como '|' e '.' são metacaracteres
+            String[] colunas = cabecalho.split(Pattern.quote(String.valueOf((char) separador)), -1);
+            for (int i = 0; i < colunas.length; i++) {
+                if (colunas[i].trim().replace("\"", "").equals(colunaRenda)) {
+                    indiceColuna = i;
+                }
+            }
+            if (indiceColuna < 0) {
+                throw new IllegalArgumentException("Coluna " + colunaRenda + " não encontrada no cabeçalho");
+            }
+            saida.write(lote.dados, 0, lote.fins[0]);
+            saida.write(separador);
+            saida.write(colunaImposto.getBytes(StandardCharsets.UTF_8));
+            saida.write('\n');
+        }
+        
+        private void enviar(Lote lote) throws IOException {
+            int coluna = indiceColuna;
+            if (executor == null) {
+                lote.calcular(coluna);
+                gravar(lote);
+                return;
+            }
+            if (emAndamento.size() >= maximoEmAndamento) {
+                gravar(emAndamento.removeFirst());
+            }
+            emAndamento.addLast(executor.submit(() -> lote.calcular(coluna)));
+        }
+        
+        private void gravar(Future<Lote> futuro) throws IOException {
+            try {
+                gravar(futuro.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Processamento interrompido", e);
+            } catch (ExecutionException e) {
+                Throwable causa = e.getCause();
+                if (causa instanceof RuntimeException) {
+                    throw (RuntimeException) causa;
+                }
+                throw new IOException(causa);
+            }
+        }
+        
+        private void gravar(Lote lote) throws IOException {
+            saida.write(lote.saida, 0, lote.tamanhoSaida);
+            resumo.somar(lote.quantidadesPorFaixa, lote.rendasPorFaixa, lote.impostosPorFaixa);
+        }
+    }
+    
+    /**
+     * Linhas de um lote guardadas em um único array de bytes, com o fim de
+     * cada linha em {@link #fins}, e o resultado do cálculo
+     */
+    private class Lote {
+        
+        private final long primeiraLinha;
+        private byte[] dados = new byte[4096];
+        private int tamanho;
+        private int[] fins = new int[Math.min(tamanhoLote, 1024)];
+        private int quantidade;
+        
+        private byte[] saida;
+        private int tamanhoSaida;
+        private final long[] quantidadesPorFaixa = new long[tabela.getQuantidadeFaixas()];
+        private final long[] rendasPorFaixa = new long[tabela.getQuantidadeFaixas()];
+        private final long[] impostosPorFaixa = new long[tabela.getQuantidadeFaixas()];
+        
+        Lote(long primeiraLinha) {
+            this.primeiraLinha = primeiraLinha;
+        }
+        
+        void acrescentar(byte[] origem, int inicio, int comprimento) {
+            if (tamanho + comprimento > dados.length) {
+                dados = Arrays.copyOf(dados, Math.max(tamanho + comprimento, dados.length * 2));
+            }
+            System.arraycopy(origem, inicio, dados, tamanho, comprimento);
+            tamanho += comprimento;
+        }
+        
+        boolean temLinhaAberta() {
+            int inicioLinha = quantidade == 0 ? 0 : fins[quantidade - 1];
+            return tamanho > inicioLinha;
+        }
+        
+        void terminarLinha() {
+            int inicioLinha = quantidade == 0 ? 0 : fins[quantidade - 1];
+            if (tamanho > inicioLinha && dados[tamanho - 1] == '\r') {
+                tamanho--;
+            }
+            if (quantidade == fins.length) {
+                fins = Arrays.copyOf(fins, fins.length * 2);
+            }
+            fins[quantidade++] = tamanho;
+        }
+        
+        Lote calcular(int coluna) {
+            saida = new byte[tamanho + quantidade * 24];
+            for (int linha = 0; linha < quantidade; linha++) {
+                int inicioLinha = linha == 0 ? 0 : fins[linha - 1];
+                int fimLinha = fins[linha];
+                long numeroLinha = primeiraLinha + linha + 1;
+                
+                // Linhas em branco não geram saída
+                if (fimLinha == inicioLinha) {
+                    continue;
+                }
+                
+                long campo = localizarCampo(dados, inicioLinha, fimLinha, coluna, numeroLinha);
+                int inicioCampo = (int) (campo >>> 32);
+                int fimCampo = (int) campo;
+                long rendaCentavos = lerCentavos(dados, inicioCampo, fimCampo);
+                long impostoCentavos;
+                int faixa;
+                if (rendaCentavos >= 0) {
+                    impostoCentavos = tabela.calcularCentavos(rendaCentavos);
+                    faixa = tabela.faixa(rendaCentavos);
+                } else {
+                    BigDecimal renda = lerBigDecimal(dados, inicioCampo, fimCampo, numeroLinha);
+                    try {
+                        impostoCentavos = tabela.calcular(renda).movePointRight(2).longValueExact();
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Linha " + numeroLinha + ": " + e.getMessage(), e);
+                    }
+                    // A faixa vem da renda sem arredondar, a mesma usada no imposto
+                    faixa = tabela.faixa(renda);
+                    rendaCentavos = renda.setScale(2, RoundingMode.HALF_UP).movePointRight(2).longValueExact();
+                }
+                
+                quantidadesPorFaixa[faixa]++;
+                rendasPorFaixa[faixa] += rendaCentavos;
+                impostosPorFaixa[faixa] += impostoCentavos;
+                
+                garantirSaida(fimLinha - inicioLinha + 24);
+                System.arraycopy(dados, inicioLinha, saida, tamanhoSaida, fimLinha - inicioLinha);
+                tamanhoSaida += fimLinha - inicioLinha;
+                saida[tamanhoSaida++] = separador;
+                tamanhoSaida = escreverCentavos(impostoCentavos, saida, tamanhoSaida);
+                saida[tamanhoSaida++] = '\n';
+            }
+            dados = null;
+            return this;
+        }
+        
+        private void garantirSaida(int adicional) {
+            if (tamanhoSaida + adicional > saida.length) {
+                saida = Arrays.copyOf(saida, Math.max(tamanhoSaida + adicional, saida.length * 2));
+            }
+        }
+    }
+    
+    /**
+     * Localiza o campo da coluna na linha, ignorando separadores entre aspas
+     * @return início e fim do campo, sem as aspas, nos 32 bits altos e baixos
+     */
+    private long localizarCampo(byte[] dados, int inicio, int fim, int coluna, long numeroLinha) {
+        int atual = 0;
+        int inicioCampo = inicio;
+        boolean entreAspas = false;
+        for (int i = inicio; i < fim; i++) {
+            byte b = dados[i];
+            if (b == '"') {
+                entreAspas = !entreAspas;
+            } else if (b == separador && !entreAspas) {
+                if (atual == coluna) {
+                    return semAspas(dados, inicioCampo, i);
+                }
+                atual++;
+                inicioCampo = i + 1;
+            }
+        }
+        if (atual == coluna) {
+            return semAspas(dados, inicioCampo, fim);
+        }
+        throw new IllegalArgumentException("Linha " + numeroLinha + ": coluna " + colunaRenda + " ausente");
+    }
+    
+    private static long semAspas(byte[] dados, int inicio, int fim) {
+        while (inicio < fim && (dados[inicio] == ' ' || dados[inicio] == '"')) {
+            inicio++;
+        }
+        while (fim > inicio && (dados[fim - 1] == ' ' || dados[fim - 1] == '"')) {
+            fim--;
+        }
+        return ((long) inicio << 32) | fim;
+    }
+    
+    /**
+     * Converte o campo para centavos sem criar objetos. Separadores de milhar
+     * só são aceitos entre grupos de três dígitos, como em {@code 1.500,50}.
+     * @return os centavos, ou -1 se o campo precisar do cálculo com {@link BigDecimal}
+     *         (negativo, vazio, com mais de duas casas ou caracteres inesperados)
+     */
+    private long lerCentavos(byte[] dados, int inicio, int fim) {
+        long centavos = 0;
+        int casasDecimais = -1;
+        boolean temDigito = false;
+        boolean temMilhar = false;
+        int digitosGrupo = 0;
+        for (int i = inicio; i < fim; i++) {
+            byte b = dados[i];
+            if (b >= '0' && b <= '9') {
+                if (casasDecimais == 2 || centavos > (Long.MAX_VALUE - 9) / 10) {
+                    return -1;
+                }
+                centavos = centavos * 10 + (b - '0');
+                temDigito = true;
+                if (casasDecimais >= 0) {
+                    casasDecimais++;
+                } else {
+                    digitosGrupo++;
+                }
+            } else if (b == separadorDecimal && casasDecimais < 0) {
+                if (!grupoMilharValido(temMilhar, digitosGrupo, false)) {
+                    return -1;
+                }
+                casasDecimais = 0;
+            } else if (b == separadorMilhar && casasDecimais < 0) {
+                if (!grupoMilharValido(temMilhar, digitosGrupo, true)) {
+                    return -1;
+                }
+                temMilhar = true;
+                digitosGrupo = 0;
+            } else {
+                return -1;
+            }
+        }
+        if (!temDigito || (casasDecimais < 0 && !grupoMilharValido(temMilhar, digitosGrupo, false))) {
+            return -1;
+        }
+        for (int i = Math.max(casasDecimais, 0); i < 2; i++) {
+            if (centavos > Long.MAX_VALUE / 10) {
+                return -1;
+            }
+            centavos *= 10;
+        }
+        return centavos;
+    }
+    
+    /**
+     * Confere o grupo de dígitos que termina em um separador de milhar
+     * ({@code antesDeMilhar}) ou no fim da parte inteira: o primeiro grupo
+     * tem de um a três dígitos e os seguintes, exatamente três
+     */
+    private static boolean grupoMilharValido(boolean temMilhar, int digitosGrupo, boolean antesDeMilhar) {
+        if (temMilhar) {
+            return digitosGrupo == 3;
+        }
+        return !antesDeMilhar || (digitosGrupo >= 1 && digitosGrupo <= 3);
+    }
+    
+    private BigDecimal lerBigDecimal(byte[] dados, int inicio, int fim, long numeroLinha) {
+        String texto = new String(dados, inicio, fim - inicio, StandardCharsets.UTF_8);
+        if (!milharValido(texto)) {
+            throw new IllegalArgumentException("Linha " + numeroLinha + ": renda inválida \"" + texto + "\"");
+        }
+        String normalizado = texto.replace(String.valueOf((char) separadorMilhar), "")
+                .replace((char) separadorDecimal, '.');
+        try {
+            return new BigDecimal(normalizado);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Linha " + numeroLinha + ": renda inválida \"" + texto + "\"", e);
+        }
+    }
+    
+    private boolean milharValido(String texto) {
+        int fimInteiro = texto.indexOf((char) separadorDecimal);
+        String inteiro = fimInteiro < 0 ? texto : texto.substring(0, fimInteiro);
+        if (texto.indexOf((char) separadorMilhar, inteiro.length()) >= 0) {
+            return false;
+        }
+        if (inteiro.startsWith("-") || inteiro.startsWith("+")) {
+            inteiro = inteiro.substring(1);
+        }
+        boolean temMilhar = false;
+        int digitosGrupo = 0;
+        for (int i = 0; i < inteiro.length(); i++) {
+            if (inteiro.charAt(i) == separadorMilhar) {
+                if (!grupoMilharValido(temMilhar, digitosGrupo, true)) {
+                    return false;
+                }
+                temMilhar = true;
+                digitosGrupo = 0;
+            } else {
+                digitosGrupo++;
+            }
+        }
+        return grupoMilharValido(temMilhar, digitosGrupo, false);
+    }
+    
+    private int escreverCentavos(long centavos, byte[] destino, int posicao) {
+        long reais = centavos / 100;
+        int resto = (int) (centavos % 100);
+        int digitos = 1;
+        for (long limite = 10; digitos < 19 && reais >= limite; limite *= 10) {
+            digitos++;
+        }
+        for (int i = posicao + digitos - 1; i >= posicao; i--) {
+            destino[i] = (byte) ('0' + reais % 10);
+            reais /= 10;
+        }
+        posicao += digitos;
+        destino[posicao++] = separadorDecimal;
+        destino[posicao++] = (byte) ('0' + resto / 10);
+        destino[posicao++] = (byte) ('0' + resto % 10);
+        return posicao;
+    }
+}
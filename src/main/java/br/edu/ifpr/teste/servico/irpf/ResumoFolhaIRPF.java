@@ -0,0 +1,88 @@
+package br.edu.ifpr.teste.servico.irpf;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Totais por faixa de um processamento de folha: quantidade de linhas,
+ * soma das rendas e soma dos impostos, em centavos
+ */
+public class ResumoFolhaIRPF {
+    
+    private final long[] quantidades;
+    private final long[] rendasCentavos;
+    private final long[] impostosCentavos;
+    private final char separadorDecimal;
+    
+    ResumoFolhaIRPF(int faixas, char separadorDecimal) {
+        this.separadorDecimal = separadorDecimal;
+        this.quantidades = new long[faixas];
+        this.rendasCentavos = new long[faixas];
+        this.impostosCentavos = new long[faixas];
+    }
+    
+    void somar(long[] quantidades, long[] rendasCentavos, long[] impostosCentavos) {
+        for (int faixa = 0; faixa < this.quantidades.length; faixa++) {
+            this.quantidades[faixa] += quantidades[faixa];
+            this.rendasCentavos[faixa] += rendasCentavos[faixa];
+            this.impostosCentavos[faixa] += impostosCentavos[faixa];
+        }
+    }
+    
+    public int getQuantidadeFaixas() {
+        return quantidades.length;
+    }
+    
+    public long getQuantidade(int faixa) {
+        return quantidades[faixa];
+    }
+    
+    public BigDecimal getTotalRendas(int faixa) {
+        return BigDecimal.valueOf(rendasCentavos[faixa], 2);
+    }
+    
+    public BigDecimal getTotalImpostos(int faixa) {
+        return BigDecimal.valueOf(impostosCentavos[faixa], 2);
+    }
+    
+    public long getQuantidadeTotal() {
+        long total = 0;
+        for (long quantidade : quantidades) {
+            total += quantidade;
+        }
+        return total;
+    }
+    
+    public BigDecimal getTotalImpostos() {
+        long total = 0;
+        for (long imposto : impostosCentavos) {
+            total += imposto;
+        }
+        return BigDecimal.valueOf(total, 2);
+    }
+    
+    /**
+     * Escreve os totais como CSV, uma faixa por linha (a primeira faixa é 1),
+     * com o mesmo separador decimal do CSV processado
+     */
+    public void escreverCsv(Appendable destino, char separador) throws IOException {
+        escreverCsv(destino, separador, separadorDecimal);
+    }
+    
+    /**
+     * @param separadorDecimal {@code ','} ou {@code '.'}, diferente do separador de campos
+     */
+    public void escreverCsv(Appendable destino, char separador, char separadorDecimal) throws IOException {
+        if (separador == separadorDecimal) {
+            throw new IllegalArgumentException("O separador de campos deve ser diferente do decimal");
+        }
+        destino.append("faixa").append(separador).append("quantidade").append(separador)
+                .append("total_rendas").append(separador).append("total_impostos").append('\n');
+        for (int faixa = 0; faixa < quantidades.length; faixa++) {
+            destino.append(String.valueOf(faixa + 1)).append(separador)
+                    .append(String.valueOf(quantidades[faixa])).append(separador)
+                    .append(getTotalRendas(faixa).toPlainString().replace('.', separadorDecimal)).append(separador)
+                    .append(getTotalImpostos(faixa).toPlainString().replace('.', separadorDecimal)).append('\n');
+        }
+    }
+}
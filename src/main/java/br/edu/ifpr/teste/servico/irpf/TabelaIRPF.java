@@ -0,0 +1,238 @@
+package br.edu.ifpr.teste.servico.irpf;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Tabela progressiva mensal do IRPF com o seu período de vigência.
+ *
+ * Cada faixa tem um limite superior (inclusivo), uma alíquota e uma parcela
+ * a deduzir; a última faixa não tem limite. Na construção os limites e as
+ * deduções também são convertidos para centavos e as alíquotas para inteiros
+ * escalados, de modo que o cálculo em {@code long} seja exato e a busca da
+ * faixa seja uma busca binária sobre os limites.
+ */
+public class TabelaIRPF {
+    
+    private final LocalDate inicioVigencia;
+    private final LocalDate fimVigencia;
+    
+    private final BigDecimal[] limites;
+    private final BigDecimal[] aliquotas;
+    private final BigDecimal[] deducoes;
+    
+    // Versão inteira: alíquota × fator e dedução em centavos × fator
+    private final long[] limitesCentavos;
+    private final long[] aliquotasEscaladas;
+    private final long[] deducoesEscaladas;
+    private final long fator;
+    private final long rendaMaximaCentavos;
+    
+    /**
+     * @param inicioVigencia Primeiro dia de vigência
+     * @param fimVigencia Último dia de vigência, ou null se ainda vigente
+     * @param limites Limite superior de cada faixa, exceto a última, em ordem crescente
+     * @param aliquotas Alíquota de cada faixa (0.075 para 7,5%)
+     * @param deducoes Parcela a deduzir de cada faixa, em reais
+     * @throws IllegalArgumentException se as faixas forem inconsistentes
+     */
+    public TabelaIRPF(LocalDate inicioVigencia, LocalDate fimVigencia,
+            BigDecimal[] limites, BigDecimal[] aliquotas, BigDecimal[] deducoes) {
+        if (aliquotas.length == 0 || aliquotas.length != deducoes.length || limites.length != aliquotas.length - 1) {
+            throw new IllegalArgumentException("A tabela deve ter uma alíquota e uma dedução por faixa e um limite a menos");
+        }
+        if (fimVigencia != null && fimVigencia.isBefore(inicioVigencia)) {
+            throw new IllegalArgumentException("O fim da vigência não pode ser anterior ao início");
+        }
+        this.inicioVigencia = inicioVigencia;
+        this.fimVigencia = fimVigencia;
+        this.limites = limites.clone();
+        this.aliquotas = aliquotas.clone();
+        this.deducoes = deducoes.clone();
+        
+        int escala = 0;
+        for (BigDecimal aliquota : aliquotas) {
+            if (aliquota.signum() < 0) {
+                throw new IllegalArgumentException("A alíquota não pode ser negativa");
+            }
+            escala = Math.max(escala, aliquota.stripTrailingZeros().scale());
+        }
+        this.fator = BigDecimal.ONE.movePointRight(escala).longValueExact();
+        
+        this.limitesCentavos = new long[limites.length];
+        for (int i = 0; i < limites.length; i++) {
+            limitesCentavos[i] = centavos(limites[i]);
+            if (i > 0 && limitesCentavos[i] <= limitesCentavos[i - 1]) {
+                throw new IllegalArgumentException("Os limites das faixas devem ser crescentes");
+            }
+        }
+        
+        this.aliquotasEscaladas = new long[aliquotas.length];
+        this.deducoesEscaladas = new long[deducoes.length];
+        long maiorAliquota = 1;
+        for (int i = 0; i < aliquotas.length; i++) {
+            aliquotasEscaladas[i] = aliquotas[i].movePointRight(escala).longValueExact();
+            deducoesEscaladas[i] = Math.multiplyExact(centavos(deducoes[i]), fator);
+            maiorAliquota = Math.max(maiorAliquota, aliquotasEscaladas[i]);
+        }
+        this.rendaMaximaCentavos = Long.MAX_VALUE / maiorAliquota - 1;
+    }
+    
+    /**
+     * Tabela vigente de abril de 2015 a abril de 2023, usada por padrão pela {@link CalculadoraIRPF}
+     */
+    public static TabelaIRPF padrao() {
+        return new TabelaIRPF(LocalDate.of(2015, 4, 1), LocalDate.of(2023, 4, 30),
+                valores("1903.98", "2826.65", "3751.05", "4664.68"),
+                valores("0", "0.075", "0.15", "0.225", "0.275"),
+                valores("0", "142.80", "354.80", "636.13", "869.36"));
+    }
+    
+    public LocalDate getInicioVigencia() {
+        return inicioVigencia;
+    }
+    
+    public LocalDate getFimVigencia() {
+        return fimVigencia;
+    }
+    
+    public int getQuantidadeFaixas() {
+        return aliquotas.length;
+    }
+    
+    public boolean vigenteEm(LocalDate data) {
+        return !data.isBefore(inicioVigencia) && (fimVigencia == null || !data.isAfter(fimVigencia));
+    }
+    
+    /**
+     * Índice da faixa da renda (0 para a primeira), por busca binária nos limites
+     */
+    public int faixa(BigDecimal rendaMensal) {
+        int inicio = 0;
+        int fim = limites.length;
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (limites[meio].compareTo(rendaMensal) < 0) {
+                inicio = meio + 1;
+            } else {
+                fim = meio;
+            }
+        }
+        return inicio;
+    }
+    
+    /**
+     * Índice da faixa da renda em centavos (0 para a primeira)
+     */
+    public int faixa(long rendaCentavos) {
+        int posicao = Arrays.binarySearch(limitesCentavos, rendaCentavos);
+        return posicao >= 0 ? posicao : -posicao - 1;
+    }
+    
+    /**
+     * Calcula o imposto em reais, arredondado HALF_UP para centavos
+     * @throws IllegalArgumentException se a renda for negativa
+     */
+    public BigDecimal calcular(BigDecimal rendaMensal) {
+        if (rendaMensal.compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException("A renda não pode ser negativa");
+        }
+        
+        int faixa = faixa(rendaMensal);
+        BigDecimal imposto = rendaMensal.multiply(aliquotas[faixa]).subtract(deducoes[faixa])
+                .setScale(2, RoundingMode.HALF_UP);
+        
+        // Se o imposto calculado for negativo, retorna zero
+        if (imposto.compareTo(BigDecimal.ZERO) < 0) {
+            imposto = BigDecimal.ZERO;
+        }
+        return imposto;
+    }
+    
+    /**
+     * Calcula o imposto em centavos com aritmética inteira, com o mesmo
+     * resultado de {@link #calcular(BigDecimal)}
+     * @throws IllegalArgumentException se a renda for negativa
+     * @throws ArithmeticException se a renda for grande demais para o cálculo em long
+     */
+    public long calcularCentavos(long rendaCentavos) {
+        if (rendaCentavos < 0) {
+            throw new IllegalArgumentException("A renda não pode ser negativa");
+        }
+        if (rendaCentavos > rendaMaximaCentavos) {
+            throw new ArithmeticException("Renda acima do limite do cálculo em centavos");
+        }
+        return impostoCentavos(rendaCentavos, faixa(rendaCentavos));
+    }
+    
+    /**
+     * Calcula o imposto em centavos de um trecho de rendas já validadas por
+     * {@link #validarCentavos(long[])}. O índice da faixa é a soma das
+     * comparações com cada limite, sem desvios por faixa.
+     */
+    void calcularCentavos(long[] rendas, long[] impostos, int inicio, int fim) {
+        long[] limitesLocais = limitesCentavos;
+        for (int i = inicio; i < fim; i++) {
+            long renda = rendas[i];
+            int faixa = 0;
+            for (long limite : limitesLocais) {
+                faixa += renda > limite ? 1 : 0;
+            }
+            impostos[i] = impostoCentavos(renda, faixa);
+        }
+    }
+    
+    /**
+     * Verifica de uma vez se todas as rendas podem ser calculadas em centavos
+     * @throws IllegalArgumentException se alguma renda for negativa
+     * @throws ArithmeticException se alguma renda for grande demais para o cálculo em long
+     */
+    void validarCentavos(long[] rendas) {
+        long maior = 0;
+        long sinais = 0;
+        for (long renda : rendas) {
+            sinais |= renda;
+            maior = Math.max(maior, renda);
+        }
+        if (sinais < 0) {
+            throw new IllegalArgumentException("A renda não pode ser negativa");
+        }
+        if (maior > rendaMaximaCentavos) {
+            throw new ArithmeticException("Renda acima do limite do cálculo em centavos");
+        }
+    }
+    
+    /**
+     * Indica se a renda pode ir pelo cálculo em centavos: não negativa, com
+     * até duas casas decimais e dentro do limite do long
+     */
+    boolean aceitaCentavos(BigDecimal rendaMensal) {
+        return rendaMensal.scale() <= 2 && rendaMensal.signum() >= 0
+                && rendaMensal.compareTo(BigDecimal.valueOf(rendaMaximaCentavos, 2)) <= 0;
+    }
+    
+    private long impostoCentavos(long rendaCentavos, int faixa) {
+        // renda × alíquota − dedução na escala do fator; arredonda HALF_UP
+        // para centavos e valores negativos viram zero
+        long escalado = rendaCentavos * aliquotasEscaladas[faixa] - deducoesEscaladas[faixa];
+        return Math.max(0, (escalado + fator / 2) / fator);
+    }
+    
+    private static long centavos(BigDecimal valor) {
+        try {
+            return valor.movePointRight(2).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Valor com mais de duas casas decimais: " + valor, e);
+        }
+    }
+    
+    private static BigDecimal[] valores(String... valores) {
+        BigDecimal[] resultado = new BigDecimal[valores.length];
+        for (int i = 0; i < valores.length; i++) {
+            resultado[i] = new BigDecimal(valores[i]);
+        }
+        return resultado;
+    }
+}
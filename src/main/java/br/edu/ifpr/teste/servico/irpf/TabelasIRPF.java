@@ -0,0 +1,173 @@
+package br.edu.ifpr.teste.servico.irpf;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Histórico de tabelas do IRPF, selecionadas pela data de competência.
+ *
+ * O arquivo tem uma faixa por linha, com os campos separados por ponto e
+ * vírgula: início da vigência, fim da vigência (vazio se ainda vigente),
+ * limite superior (vazio na última faixa), alíquota e parcela a deduzir.
+ * Linhas vazias e iniciadas por {@code #} são ignoradas.
+ */
+public class TabelasIRPF {
+    
+    private static final String RECURSO_PADRAO = "/irpf/tabelas-irpf.csv";
+    
+    private final TabelaIRPF[] tabelas;
+    private final LocalDate[] inicios;
+    
+    /**
+     * @throws IllegalArgumentException se as vigências se sobrepuserem
+     */
+    public TabelasIRPF(List<TabelaIRPF> tabelas) {
+        List<TabelaIRPF> ordenadas = new ArrayList<>(tabelas);
+        ordenadas.sort(Comparator.comparing(TabelaIRPF::getInicioVigencia));
+        this.tabelas = ordenadas.toArray(new TabelaIRPF[0]);
+        this.inicios = new LocalDate[this.tabelas.length];
+        for (int i = 0; i < this.tabelas.length; i++) {
+            inicios[i] = this.tabelas[i].getInicioVigencia();
+            if (i > 0) {
+                LocalDate fimAnterior = this.tabelas[i - 1].getFimVigencia();
+                if (fimAnterior == null || !fimAnterior.isBefore(inicios[i])) {
+                    throw new IllegalArgumentException("Vigências sobrepostas em " + inicios[i]);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Tabelas publicadas desde 2015, carregadas do recurso {@value #RECURSO_PADRAO}
+     */
+    public static TabelasIRPF padrao() {
+        return Padrao.TABELAS;
+    }
+    
+    public static TabelasIRPF carregar(Path arquivo) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(arquivo)) {
+            return carregar(inputStream);
+        }
+    }
+    
+    /**
+     * @throws IllegalArgumentException se alguma linha for inválida
+     */
+    public static TabelasIRPF carregar(InputStream inputStream) throws IOException {
+        // Faixas agrupadas por vigência, na ordem do arquivo
+        Map<String, List<String[]>> faixasPorVigencia = new LinkedHashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String linha;
+            int numeroLinha = 0;
+            while ((linha = reader.readLine()) != null) {
+                numeroLinha++;
+                linha = linha.trim();
+                if (linha.isEmpty() || linha.startsWith("#")) {
+                    continue;
+                }
+                String[] campos = linha.split(";", -1);
+                if (campos.length != 5) {
+                    throw new IllegalArgumentException("Linha " + numeroLinha + ": esperados 5 campos, encontrados " + campos.length);
+                }
+                faixasPorVigencia.computeIfAbsent(campos[0] + ";" + campos[1], chave -> new ArrayList<>()).add(campos);
+            }
+        }
+        
+        List<TabelaIRPF> tabelas = new ArrayList<>();
+        for (List<String[]> faixas : faixasPorVigencia.values()) {
+            tabelas.add(criarTabela(faixas));
+        }
+        return new TabelasIRPF(tabelas);
+    }
+    
+    /**
+     * Tabela vigente na data, por busca binária nos inícios de vigência
+     * @throws IllegalArgumentException se nenhuma tabela estiver vigente na data
+     */
+    public TabelaIRPF tabelaVigente(LocalDate data) {
+        int inicio = 0;
+        int fim = inicios.length;
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (inicios[meio].isAfter(data)) {
+                fim = meio;
+            } else {
+                inicio = meio + 1;
+            }
+        }
+        if (inicio == 0 || !tabelas[inicio - 1].vigenteEm(data)) {
+            throw new IllegalArgumentException("Nenhuma tabela do IRPF vigente em " + data);
+        }
+        return tabelas[inicio - 1];
+    }
+    
+    /**
+     * Tabela vigente no primeiro dia do mês de competência
+     */
+    public TabelaIRPF tabelaVigente(YearMonth competencia) {
+        return tabelaVigente(competencia.atDay(1));
+    }
+    
+    public List<TabelaIRPF> getTabelas() {
+        return List.of(tabelas);
+    }
+    
+    private static TabelaIRPF criarTabela(List<String[]> faixas) {
+        String[] primeira = faixas.get(0);
+        try {
+            LocalDate inicio = LocalDate.parse(primeira[0].trim());
+            LocalDate fim = primeira[1].trim().isEmpty() ? null : LocalDate.parse(primeira[1].trim());
+            
+            BigDecimal[] limites = new BigDecimal[faixas.size() - 1];
+            BigDecimal[] aliquotas = new BigDecimal[faixas.size()];
+            BigDecimal[] deducoes = new BigDecimal[faixas.size()];
+            for (int i = 0; i < faixas.size(); i++) {
+                String[] campos = faixas.get(i);
+                boolean ultima = i == faixas.size() - 1;
+                if (campos[2].trim().isEmpty() != ultima) {
+                    throw new IllegalArgumentException("Apenas a última faixa de " + inicio + " deve ficar sem limite");
+                }
+                if (!ultima) {
+                    limites[i] = new BigDecimal(campos[2].trim());
+                }
+                aliquotas[i] = new BigDecimal(campos[3].trim());
+                deducoes[i] = new BigDecimal(campos[4].trim());
+            }
+            return new TabelaIRPF(inicio, fim, limites, aliquotas, deducoes);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Tabela com início em " + primeira[0] + " inválida: " + e.getMessage(), e);
+        }
+    }
+    
+    // Carregado apenas no primeiro uso
+    private static class Padrao {
+        
+        static final TabelasIRPF TABELAS = carregarRecurso();
+        
+        private static TabelasIRPF carregarRecurso() {
+            try (InputStream inputStream = TabelasIRPF.class.getResourceAsStream(RECURSO_PADRAO)) {
+                if (inputStream == null) {
+                    throw new IllegalStateException("Recurso " + RECURSO_PADRAO + " não encontrado");
+                }
+                return carregar(inputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
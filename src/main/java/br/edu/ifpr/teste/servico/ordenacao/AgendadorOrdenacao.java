@@ -0,0 +1,214 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import br.edu.ifpr.teste.metricas.Contador;
+import br.edu.ifpr.teste.metricas.Histograma;
+import br.edu.ifpr.teste.metricas.Metricas;
+
+/**
+ * Ordena muitos arquivos em paralelo sem ultrapassar um orçamento de memória
+ * global. Cada tarefa lê o cabeçalho da entrada (formato de
+ * {@link ServicoOrdenacao#obterDadosArquivo(java.io.InputStream)}), estima a
+ * memória necessária e só começa a ler os números depois de reservá-la; o
+ * restante da entrada é lido apenas quando há memória para ela.
+ *
+ * A reserva é feita por ordem de chegada, de modo que uma entrada grande não
+ * fica esperando indefinidamente enquanto as pequenas passam na frente.
+ * Entradas que não cabem no orçamento são ordenadas fora da memória com
+ * {@link OrdenacaoExterna}, usando uma fatia do orçamento.
+ */
+public class AgendadorOrdenacao implements Closeable {
+
+    // Vetor dos números e vetor auxiliar da ordenação, como em OrdenacaoExterna
+    static final int BYTES_POR_NUMERO = 2 * Integer.BYTES;
+    // Buffers de leitura e escrita de cada tarefa
+    static final long SOBRECARGA_TAREFA = 128 * 1024;
+    static final long ORCAMENTO_MINIMO = OrdenacaoExterna.ORCAMENTO_MINIMO + SOBRECARGA_TAREFA;
+
+    // O semáforo conta em KiB para que orçamentos acima de 2 GiB caibam em um int
+    private static final int BYTES_POR_PERMISSAO = 1024;
+
+    private static final Histograma ESPERA = Metricas.histograma("ordenacao.agendador.espera");
+    private static final Histograma TAREFA = Metricas.histograma("ordenacao.agendador.tarefa");
+    private static final Contador EXTERNAS = Metricas.contador("ordenacao.agendador.externas");
+    private static final Contador FALHAS = Metricas.contador("ordenacao.agendador.falhas");
+
+    private final long orcamentoMemoria;
+    private final long reservaExterna;
+    private final Path diretorioTemporario;
+    private final AlgoritmoOrdenacao algoritmo;
+    private final Semaphore memoria;
+    private final ExecutorService executor;
+    private final AtomicLong memoriaEmUso = new AtomicLong();
+    private final AtomicLong picoMemoria = new AtomicLong();
+
+    /**
+     * @param orcamentoMemoria bytes que as tarefas em execução podem ocupar juntas
+     * @param trabalhadores quantidade máxima de tarefas executando ao mesmo tempo
+     */
+    public AgendadorOrdenacao(long orcamentoMemoria, int trabalhadores) {
+        this(orcamentoMemoria, trabalhadores, new SeletorAlgoritmo());
+    }
+
+    public AgendadorOrdenacao(long orcamentoMemoria, int trabalhadores, AlgoritmoOrdenacao algoritmo) {
+        this(orcamentoMemoria, trabalhadores, Paths.get(System.getProperty("java.io.tmpdir")), algoritmo);
+    }
+
+    /**
+     * @param diretorioTemporario onde as tarefas fora da memória gravam suas rodadas
+     * @throws IllegalArgumentException se o orçamento for menor que {@value #ORCAMENTO_MINIMO}
+     *                                  bytes ou não houver ao menos um trabalhador
+     */
+    public AgendadorOrdenacao(long orcamentoMemoria, int trabalhadores, Path diretorioTemporario,
+            AlgoritmoOrdenacao algoritmo) {
+        if (orcamentoMemoria < ORCAMENTO_MINIMO) {
+            throw new IllegalArgumentException("O orçamento de memória deve ser de ao menos " + ORCAMENTO_MINIMO + " bytes");
+        }
+        if (trabalhadores < 1) {
+            throw new IllegalArgumentException("É preciso ao menos um trabalhador");
+        }
+        long permissoes = orcamentoMemoria / BYTES_POR_PERMISSAO;
+        if (permissoes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Orçamento de memória grande demais: " + orcamentoMemoria);
+        }
+        this.orcamentoMemoria = permissoes * BYTES_POR_PERMISSAO;
+        // Uma entrada grande ocupa a parte de um trabalhador, sem travar as demais
+        this.reservaExterna = Math.max(ORCAMENTO_MINIMO, this.orcamentoMemoria / trabalhadores);
+        this.diretorioTemporario = diretorioTemporario;
+        this.algoritmo = algoritmo;
+        this.memoria = new Semaphore((int) permissoes, true);
+        AtomicInteger numero = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(trabalhadores, tarefa -> {
+            Thread thread = new Thread(tarefa, "agendador-ordenacao-" + numero.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Agenda a ordenação de {@code entrada}, gravando o resultado em
+     * {@code saida} no mesmo formato. Retorna logo; acompanhe pela tarefa.
+     * Se a tarefa falhar, {@code saida} não é criada nem alterada.
+     * @throws java.util.concurrent.RejectedExecutionException se o agendador já foi fechado
+     */
+    public TarefaOrdenacao submeter(Path entrada, Path saida) {
+        TarefaOrdenacao tarefa = new TarefaOrdenacao(entrada, saida);
+        executor.execute(() -> executar(tarefa));
+        return tarefa;
+    }
+
+    private void executar(TarefaOrdenacao tarefa) {
+        long gravados;
+        try {
+            gravados = ordenar(tarefa);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            FALHAS.incrementar();
+            tarefa.falhar(e);
+            return;
+        } catch (Throwable e) {
+            // Inclui erros de memória: quem espera a tarefa não pode ficar sem resposta
+            FALHAS.incrementar();
+            tarefa.falhar(e);
+            return;
+        }
+        tarefa.concluir(gravados);
+    }
+
+    /**
+     * Reserva a memória da tarefa e ordena a entrada. A reserva é devolvida
+     * antes de retornar, para que quem aguarda a tarefa já a veja liberada.
+     */
+    private long ordenar(TarefaOrdenacao tarefa) throws IOException, InterruptedException {
+        long inicioEspera = Metricas.inicio();
+        try (LeitorNumeros leitor = LeitorNumeros.de(tarefa.getEntrada())) {
+            int quantidade = leitor.lerQuantidade();
+            long emMemoria = (long) Math.max(quantidade, 0) * BYTES_POR_NUMERO + SOBRECARGA_TAREFA;
+            boolean externa = emMemoria > orcamentoMemoria;
+            long reserva = externa ? reservaExterna : emMemoria;
+            tarefa.cabecalhoLido(quantidade, reserva, externa);
+
+            int permissoes = (int) ((reserva + BYTES_POR_PERMISSAO - 1) / BYTES_POR_PERMISSAO);
+            memoria.acquire(permissoes);
+            try {
+                long emUso = memoriaEmUso.addAndGet(reserva);
+                picoMemoria.accumulateAndGet(emUso, Math::max);
+                ESPERA.registrarDesde(inicioEspera);
+
+                long inicio = Metricas.inicio();
+                tarefa.iniciar();
+                if (externa) {
+                    EXTERNAS.incrementar();
+                }
+                // O orçamento da ordenação já inclui o vetor auxiliar; a sobrecarga fica para a leitura e a escrita
+                long orcamentoOrdenacao = Math.max(OrdenacaoExterna.ORCAMENTO_MINIMO, reserva - SOBRECARGA_TAREFA);
+                OrdenacaoExterna ordenacao = new OrdenacaoExterna(orcamentoOrdenacao, diretorioTemporario, algoritmo);
+                // Grava ao lado do destino e só o substitui no fim: uma falha no meio não deixa saída truncada
+                Path destino = tarefa.getSaida().toAbsolutePath();
+                Path parcial = Files.createTempFile(destino.getParent(), destino.getFileName().toString(), ".parcial");
+                long gravados;
+                try {
+                    try (OutputStream saida = Files.newOutputStream(parcial);
+                            EscritorNumeros escritor = new EscritorNumeros(saida)) {
+                        escritor.escreverQuantidade(Math.max(quantidade, 0));
+                        gravados = ordenacao.ordenar(leitor, quantidade, tarefa.contando(escritor));
+                    }
+                    Files.move(parcial, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(parcial);
+                }
+                TAREFA.registrarDesde(inicio);
+                return gravados;
+            } finally {
+                memoriaEmUso.addAndGet(-reserva);
+                memoria.release(permissoes);
+            }
+        }
+    }
+
+    public long getOrcamentoMemoria() {
+        return orcamentoMemoria;
+    }
+
+    /**
+     * Bytes reservados pelas tarefas em execução neste momento
+     */
+    public long getMemoriaEmUso() {
+        return memoriaEmUso.get();
+    }
+
+    /**
+     * Maior valor de {@link #getMemoriaEmUso()} já observado
+     */
+    public long getPicoMemoria() {
+        return picoMemoria.get();
+    }
+
+    /**
+     * Não aceita novas tarefas e espera as já submetidas terminarem
+     */
+    @Override
+    public void close() throws IOException {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrompido enquanto esperava as tarefas de ordenação", e);
+        }
+    }
+}
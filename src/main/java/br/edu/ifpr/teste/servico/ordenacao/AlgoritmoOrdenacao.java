@@ -0,0 +1,33 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+/**
+ * Estratégia de ordenação crescente de um trecho de um array de inteiros
+ */
+public interface AlgoritmoOrdenacao {
+
+    /**
+     * Ordena as posições de {@code inicio} (inclusive) até {@code fim} (exclusive)
+     */
+    void ordenar(int[] dados, int inicio, int fim);
+
+    /**
+     * Devolve o algoritmo pelo nome: sequencial, paralelo, radix, contagem ou automatico
+     * @throws IllegalArgumentException se o nome não for conhecido
+     */
+    static AlgoritmoOrdenacao porNome(String nome) {
+        switch (nome) {
+            case "sequencial":
+                return new OrdenacaoSequencial();
+            case "paralelo":
+                return new OrdenacaoParalela();
+            case "radix":
+                return new OrdenacaoRadix();
+            case "contagem":
+                return new OrdenacaoContagem();
+            case "automatico":
+                return new SeletorAlgoritmo();
+            default:
+                throw new IllegalArgumentException("Algoritmo de ordenação desconhecido: " + nome);
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Coleção de inteiros mantida em ordem de forma incremental, no estilo
+ * LSM: cada lote recebido é ordenado sozinho e vira uma rodada; rodadas de
+ * tamanho parecido são intercaladas em camadas, de modo que existem
+ * O(log n) rodadas e cada elemento é copiado O(log n) vezes no total, em
+ * vez de reordenar tudo a cada chegada.
+ *
+ * Valores avulsos ficam em um pequeno buffer até formar um lote. Consultas
+ * de posto, intervalo e a iteração em ordem combinam as rodadas sem
+ * juntá-las. Não é segura para uso concorrente.
+ */
+public class ColecaoOrdenada {
+
+    private static final int TAMANHO_BUFFER = 1024;
+    // Uma rodada é intercalada com a anterior enquanto esta não for mais que o dobro dela
+    private static final int FATOR_CAMADA = 2;
+
+    private final AlgoritmoOrdenacao algoritmo;
+    // Da mais antiga (maior) para a mais nova (menor); cada array é exatamente uma rodada
+    private final List<int[]> rodadas = new ArrayList<>();
+    private final int[] buffer = new int[TAMANHO_BUFFER];
+    private int tamanhoBuffer;
+    private long tamanho;
+    private int modificacoes;
+
+    public ColecaoOrdenada() {
+        this(new SeletorAlgoritmo());
+    }
+
+    /**
+     * @param algoritmo algoritmo usado para ordenar cada lote recebido
+     */
+    public ColecaoOrdenada(AlgoritmoOrdenacao algoritmo) {
+        this.algoritmo = algoritmo;
+    }
+
+    public void adicionar(int valor) {
+        if (tamanhoBuffer == TAMANHO_BUFFER) {
+            descarregarBuffer();
+        }
+        buffer[tamanhoBuffer++] = valor;
+        tamanho++;
+        modificacoes++;
+    }
+
+    /**
+     * Adiciona um lote; só o lote é ordenado, o array informado não é alterado
+     */
+    public void adicionarLote(int[] dados, int inicio, int fim) {
+        if (fim - inicio <= TAMANHO_BUFFER - tamanhoBuffer) {
+            System.arraycopy(dados, inicio, buffer, tamanhoBuffer, fim - inicio);
+            tamanhoBuffer += fim - inicio;
+        } else {
+            int[] rodada = Arrays.copyOfRange(dados, inicio, fim);
+            algoritmo.ordenar(rodada, 0, rodada.length);
+            empilhar(rodada);
+        }
+        tamanho += fim - inicio;
+        modificacoes++;
+    }
+
+    public void adicionarLote(VetorInteiros lote) {
+        adicionarLote(lote.array(), 0, lote.tamanho());
+    }
+
+    public long tamanho() {
+        return tamanho;
+    }
+
+    public boolean vazia() {
+        return tamanho == 0;
+    }
+
+    /**
+     * Quantidade de rodadas ordenadas mantidas no momento
+     */
+    public int getQuantidadeRodadas() {
+        descarregarBuffer();
+        return rodadas.size();
+    }
+
+    /**
+     * Quantidade de elementos estritamente menores que o valor
+     */
+    public long posto(int valor) {
+        descarregarBuffer();
+        long total = 0;
+        for (int[] rodada : rodadas) {
+            total += primeiroMaiorOuIgual(rodada, valor);
+        }
+        return total;
+    }
+
+    /**
+     * Quantidade de elementos entre {@code minimo} e {@code maximo}, inclusive
+     */
+    public long contarIntervalo(int minimo, int maximo) {
+        if (minimo > maximo) {
+            return 0;
+        }
+        descarregarBuffer();
+        long total = 0;
+        for (int[] rodada : rodadas) {
+            total += primeiroMaior(rodada, maximo) - primeiroMaiorOuIgual(rodada, minimo);
+        }
+        return total;
+    }
+
+    /**
+     * Os elementos entre {@code minimo} e {@code maximo}, inclusive, em ordem crescente
+     * @throws IllegalStateException se houver elementos demais para um vetor
+     */
+    public VetorInteiros intervalo(int minimo, int maximo) {
+        long quantidade = contarIntervalo(minimo, maximo);
+        if (quantidade > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("O intervalo tem elementos demais para um vetor: " + quantidade);
+        }
+        VetorInteiros resultado = new VetorInteiros((int) quantidade);
+        if (quantidade == 0) {
+            return resultado;
+        }
+        int[] inicios = new int[rodadas.size()];
+        int[] fins = new int[rodadas.size()];
+        for (int i = 0; i < rodadas.size(); i++) {
+            inicios[i] = primeiroMaiorOuIgual(rodadas.get(i), minimo);
+            fins[i] = primeiroMaior(rodadas.get(i), maximo);
+        }
+        Iterador iterador = new Iterador(inicios, fins);
+        while (iterador.hasNext()) {
+            resultado.adicionar(iterador.nextInt());
+        }
+        return resultado;
+    }
+
+    /**
+     * O elemento que ocuparia a posição {@code indice} (a partir de 0) na ordem crescente
+     * @throws IndexOutOfBoundsException se o índice estiver fora da coleção
+     */
+    public int obter(long indice) {
+        if (indice < 0 || indice >= tamanho) {
+            throw new IndexOutOfBoundsException("Índice " + indice + " fora da coleção de " + tamanho);
+        }
+        descarregarBuffer();
+        // Busca binária no espaço de valores pelo menor valor com mais de "indice" elementos até ele
+        long menor = Integer.MIN_VALUE;
+        long maior = Integer.MAX_VALUE;
+        while (menor < maior) {
+            long meio = (menor + maior) >> 1;
+            if (contarAte((int) meio) > indice) {
+                maior = meio;
+            } else {
+                menor = meio + 1;
+            }
+        }
+        return (int) menor;
+    }
+
+    private long contarAte(int valor) {
+        long total = 0;
+        for (int[] rodada : rodadas) {
+            total += primeiroMaior(rodada, valor);
+        }
+        return total;
+    }
+
+    /**
+     * Iterador em ordem crescente; falha se a coleção for alterada durante a iteração
+     */
+    public PrimitiveIterator.OfInt iterador() {
+        descarregarBuffer();
+        int[] inicios = new int[rodadas.size()];
+        int[] fins = new int[rodadas.size()];
+        for (int i = 0; i < rodadas.size(); i++) {
+            fins[i] = rodadas.get(i).length;
+        }
+        return new Iterador(inicios, fins);
+    }
+
+    /**
+     * Entrega os elementos em ordem crescente ao destino
+     */
+    public void paraCada(ConsumidorInteiros destino) throws IOException {
+        PrimitiveIterator.OfInt iterador = iterador();
+        while (iterador.hasNext()) {
+            destino.aceitar(iterador.nextInt());
+        }
+    }
+
+    /**
+     * Intercala todas as rodadas em uma só, deixando as consultas seguintes mais baratas
+     */
+    public void compactar() {
+        descarregarBuffer();
+        while (rodadas.size() > 1) {
+            intercalarUltimas();
+        }
+    }
+
+    private void descarregarBuffer() {
+        if (tamanhoBuffer == 0) {
+            return;
+        }
+        int[] rodada = Arrays.copyOf(buffer, tamanhoBuffer);
+        tamanhoBuffer = 0;
+        algoritmo.ordenar(rodada, 0, rodada.length);
+        empilhar(rodada);
+    }
+
+    private void empilhar(int[] rodada) {
+        if (rodada.length == 0) {
+            return;
+        }
+        rodadas.add(rodada);
+        int n = rodadas.size();
+        while (n > 1 && rodadas.get(n - 2).length <= FATOR_CAMADA * (long) rodadas.get(n - 1).length) {
+            intercalarUltimas();
+            n--;
+        }
+    }
+
+    private void intercalarUltimas() {
+        int[] b = rodadas.remove(rodadas.size() - 1);
+        int[] a = rodadas.remove(rodadas.size() - 1);
+        int[] resultado = new int[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length && j < b.length) {
+            resultado[k++] = a[i] <= b[j] ? a[i++] : b[j++];
+        }
+        System.arraycopy(a, i, resultado, k, a.length - i);
+        System.arraycopy(b, j, resultado, k + a.length - i, b.length - j);
+        rodadas.add(resultado);
+    }
+
+    private static int primeiroMaiorOuIgual(int[] rodada, int valor) {
+        int inicio = 0;
+        int fim = rodada.length;
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (rodada[meio] < valor) {
+                inicio = meio + 1;
+            } else {
+                fim = meio;
+            }
+        }
+        return inicio;
+    }
+
+    private static int primeiroMaior(int[] rodada, int valor) {
+        int inicio = 0;
+        int fim = rodada.length;
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (rodada[meio] <= valor) {
+                inicio = meio + 1;
+            } else {
+                fim = meio;
+            }
+        }
+        return inicio;
+    }
+
+    /**
+     * Intercalação das rodadas com um heap de índices ordenado pelo valor atual de cada rodada
+     */
+    private class Iterador implements PrimitiveIterator.OfInt {
+
+        private final int[][] dados;
+        private final int[] posicoes;
+        private final int[] fins;
+        private final int[] heap;
+        private int tamanhoHeap;
+        private final int modificacoesEsperadas = modificacoes;
+
+        Iterador(int[] inicios, int[] fins) {
+            this.dados = rodadas.toArray(new int[0][]);
+            this.posicoes = inicios;
+            this.fins = fins;
+            this.heap = new int[dados.length];
+            for (int i = 0; i < dados.length; i++) {
+                if (posicoes[i] < fins[i]) {
+                    heap[tamanhoHeap++] = i;
+                }
+            }
+            for (int i = tamanhoHeap / 2 - 1; i >= 0; i--) {
+                descer(i);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return tamanhoHeap > 0;
+        }
+
+        @Override
+        public int nextInt() {
+            if (modificacoes != modificacoesEsperadas) {
+                throw new ConcurrentModificationException();
+            }
+            if (tamanhoHeap == 0) {
+                throw new NoSuchElementException();
+            }
+            int rodada = heap[0];
+            int valor = dados[rodada][posicoes[rodada]++];
+            if (posicoes[rodada] == fins[rodada]) {
+                heap[0] = heap[--tamanhoHeap];
+            }
+            if (tamanhoHeap > 0) {
+                descer(0);
+            }
+            return valor;
+        }
+
+        private int atual(int rodada) {
+            return dados[rodada][posicoes[rodada]];
+        }
+
+        private void descer(int posicao) {
+            int rodada = heap[posicao];
+            int valor = atual(rodada);
+            while (2 * posicao + 1 < tamanhoHeap) {
+                int filho = 2 * posicao + 1;
+                if (filho + 1 < tamanhoHeap && atual(heap[filho + 1]) < atual(heap[filho])) {
+                    filho++;
+                }
+                if (atual(heap[filho]) >= valor) {
+                    break;
+                }
+                heap[posicao] = heap[filho];
+                posicao = filho;
+            }
+            heap[posicao] = rodada;
+        }
+    }
+}
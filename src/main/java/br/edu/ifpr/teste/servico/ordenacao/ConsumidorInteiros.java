@@ -0,0 +1,11 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import java.io.IOException;
+
+/**
+ * Destino de uma sequência de inteiros primitivos produzida pela ordenação
+ */
+public interface ConsumidorInteiros {
+
+    void aceitar(int valor) throws IOException;
+}
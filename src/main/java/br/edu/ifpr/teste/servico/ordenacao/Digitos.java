@@ -0,0 +1,47 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+/**
+ * Conversão de inteiros para dígitos ASCII direto em arrays de bytes, sem
+ * criar uma {@link String} por número
+ */
+final class Digitos {
+
+    // Maior representação de um int: "-2147483648"
+    static final int TAMANHO_MAXIMO = 11;
+
+    private Digitos() {
+    }
+
+    /**
+     * Quantidade de caracteres do valor em decimal, incluindo o sinal
+     */
+    static int tamanho(int valor) {
+        int negativo = valor < 0 ? valor : -valor;
+        int digitos = 1;
+        for (int limite = -10; digitos < 10 && negativo <= limite; limite *= 10) {
+            digitos++;
+        }
+        return valor < 0 ? digitos + 1 : digitos;
+    }
+
+    /**
+     * Escreve os dígitos ASCII do valor a partir da posição informada
+     * @return a posição seguinte ao último dígito escrito
+     */
+    static int escrever(int valor, byte[] destino, int posicao) {
+        int fim = posicao + tamanho(valor);
+        // Trabalha com o valor negativo para tratar Integer.MIN_VALUE
+        int negativo = valor;
+        if (valor < 0) {
+            destino[posicao] = '-';
+        } else {
+            negativo = -valor;
+        }
+        int i = fim - 1;
+        do {
+            destino[i--] = (byte) ('0' - negativo % 10);
+            negativo /= 10;
+        } while (negativo != 0);
+        return fim;
+    }
+}
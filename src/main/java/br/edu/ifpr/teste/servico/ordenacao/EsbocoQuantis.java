@@ -0,0 +1,181 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+/**
+ * Esboço de quantis aproximados em uma única passada, no estilo KLL: para
+ * entradas que não cabem na memória. Os valores entram no nível 0; quando um
+ * nível enche, ele é ordenado e metade dos itens (os de posição par ou
+ * ímpar, ao acaso) sobe para o nível seguinte com o dobro do peso. As
+ * capacidades diminuem 2/3 a cada nível abaixo do topo, então a memória é
+ * O(k) e o erro de posto fica em torno de 1,65/k da quantidade.
+ *
+ * Mínimo e máximo são exatos.
+ */
+public class EsbocoQuantis implements ConsumidorInteiros {
+
+    public static final int K_PADRAO = 200;
+
+    private static final int CAPACIDADE_MINIMA = 8;
+    private static final double FATOR_CAPACIDADE = 2.0 / 3.0;
+
+    private final int k;
+    private final SplittableRandom aleatorio;
+    private int[][] niveis;
+    private int[] tamanhos;
+    private long quantidade;
+    private int minimo = Integer.MAX_VALUE;
+    private int maximo = Integer.MIN_VALUE;
+
+    public EsbocoQuantis() {
+        this(K_PADRAO);
+    }
+
+    public EsbocoQuantis(int k) {
+        this(k, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * @param k precisão: maior k, menor o erro e maior a memória
+     * @param semente semente das escolhas aleatórias, para resultados reproduzíveis
+     */
+    public EsbocoQuantis(int k, long semente) {
+        if (k < CAPACIDADE_MINIMA) {
+            throw new IllegalArgumentException("K deve ser pelo menos " + CAPACIDADE_MINIMA);
+        }
+        this.k = k;
+        this.aleatorio = new SplittableRandom(semente);
+        this.niveis = new int[][] { new int[k] };
+        this.tamanhos = new int[1];
+    }
+
+    @Override
+    public void aceitar(int valor) {
+        if (tamanhos[0] >= capacidade(0)) {
+            comprimir();
+        }
+        adicionar(0, valor);
+        quantidade++;
+        minimo = Math.min(minimo, valor);
+        maximo = Math.max(maximo, valor);
+    }
+
+    /**
+     * Valor aproximado do quantil {@code q}, entre 0 (mínimo) e 1 (máximo)
+     * @throws NoSuchElementException se nenhum valor foi recebido
+     */
+    public int quantil(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("O quantil deve estar entre 0 e 1");
+        }
+        if (quantidade == 0) {
+            throw new NoSuchElementException("O esboço está vazio");
+        }
+        if (q == 0) {
+            return minimo;
+        }
+        if (q == 1) {
+            return maximo;
+        }
+
+        // Valor nos bits altos e nível nos 6 bits baixos: ordenar os longs ordena pelos valores
+        int total = 0;
+        for (int tamanho : tamanhos) {
+            total += tamanho;
+        }
+        long[] itens = new long[total];
+        long pesoTotal = 0;
+        int posicao = 0;
+        for (int nivel = 0; nivel < niveis.length; nivel++) {
+            for (int i = 0; i < tamanhos[nivel]; i++) {
+                itens[posicao++] = ((long) niveis[nivel][i] << 6) | nivel;
+            }
+            pesoTotal += (long) tamanhos[nivel] << nivel;
+        }
+        Arrays.sort(itens);
+
+        long alvo = Math.max(1, (long) Math.ceil(q * pesoTotal));
+        long acumulado = 0;
+        for (long item : itens) {
+            acumulado += 1L << (item & 63);
+            if (acumulado >= alvo) {
+                return (int) (item >> 6);
+            }
+        }
+        return maximo;
+    }
+
+    public int mediana() {
+        return quantil(0.5);
+    }
+
+    public long getQuantidade() {
+        return quantidade;
+    }
+
+    public int getMinimo() {
+        if (quantidade == 0) {
+            throw new NoSuchElementException("O esboço está vazio");
+        }
+        return minimo;
+    }
+
+    public int getMaximo() {
+        if (quantidade == 0) {
+            throw new NoSuchElementException("O esboço está vazio");
+        }
+        return maximo;
+    }
+
+    /**
+     * Quantidade de itens guardados, que cresce só com o logaritmo da entrada
+     */
+    public int getItensGuardados() {
+        int total = 0;
+        for (int tamanho : tamanhos) {
+            total += tamanho;
+        }
+        return total;
+    }
+
+    private int capacidade(int nivel) {
+        int profundidade = niveis.length - 1 - nivel;
+        return Math.max(CAPACIDADE_MINIMA, (int) Math.ceil(k * Math.pow(FATOR_CAPACIDADE, profundidade)));
+    }
+
+    private void comprimir() {
+        for (int nivel = 0; nivel < niveis.length; nivel++) {
+            if (tamanhos[nivel] >= capacidade(nivel)) {
+                compactar(nivel);
+            }
+        }
+    }
+
+    private void compactar(int nivel) {
+        if (nivel + 1 == niveis.length) {
+            niveis = Arrays.copyOf(niveis, niveis.length + 1);
+            niveis[nivel + 1] = new int[CAPACIDADE_MINIMA];
+            tamanhos = Arrays.copyOf(tamanhos, tamanhos.length + 1);
+        }
+
+        int[] itens = niveis[nivel];
+        int tamanho = tamanhos[nivel];
+        Arrays.sort(itens, 0, tamanho);
+
+        // Com quantidade ímpar, o menor item fica no nível para que os pesos se conservem
+        int inicio = tamanho % 2;
+        for (int i = inicio + aleatorio.nextInt(2); i < tamanho; i += 2) {
+            adicionar(nivel + 1, itens[i]);
+        }
+        tamanhos[nivel] = inicio;
+    }
+
+    private void adicionar(int nivel, int valor) {
+        if (tamanhos[nivel] == niveis[nivel].length) {
+            niveis[nivel] = Arrays.copyOf(niveis[nivel], Math.max(2 * tamanhos[nivel], CAPACIDADE_MINIMA));
+        }
+        niveis[nivel][tamanhos[nivel]++] = valor;
+    }
+}
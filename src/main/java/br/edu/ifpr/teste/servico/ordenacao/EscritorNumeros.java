@@ -0,0 +1,55 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Escreve números no mesmo formato lido por {@link LeitorNumeros}: a
+ * quantidade na primeira linha e depois um número por linha. Os dígitos são
+ * gerados direto em um buffer de bytes, sem {@link Integer#toString(int)}.
+ */
+public class EscritorNumeros implements ConsumidorInteiros, Closeable {
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
+    private final OutputStream outputStream;
+    private final byte[] buffer = new byte[TAMANHO_BUFFER];
+    private int posicao;
+
+    public EscritorNumeros(OutputStream outputStream) {
+        this.outputStream = outputStream;
+    }
+
+    public void escreverQuantidade(int quantidade) throws IOException {
+        aceitar(quantidade);
+    }
+
+    @Override
+    public void aceitar(int valor) throws IOException {
+        if (posicao + Digitos.TAMANHO_MAXIMO + 1 > buffer.length) {
+            descarregar();
+        }
+        posicao = Digitos.escrever(valor, buffer, posicao);
+        buffer[posicao++] = '\n';
+    }
+
+    public void flush() throws IOException {
+        descarregar();
+        outputStream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            outputStream.close();
+        }
+    }
+
+    private void descarregar() throws IOException {
+        outputStream.write(buffer, 0, posicao);
+        posicao = 0;
+    }
+}
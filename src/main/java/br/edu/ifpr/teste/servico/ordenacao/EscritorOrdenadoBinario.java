@@ -0,0 +1,196 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Grava números em ordem crescente no formato binário compacto lido por
+ * {@link LeitorOrdenadoBinario}:
+ *
+ * <pre>
+ * cabeçalho (32 bytes): mágico, versão, valores por bloco, quantidade de blocos,
+ *                       quantidade de valores, posição do índice
+ * blocos: diferença de cada valor para o anterior (o primeiro, para o mínimo) em varint
+ * índice: por bloco, posição (long), quantidade, mínimo e máximo (int)
+ * </pre>
+ *
+ * Como os dados estão ordenados, as diferenças são pequenas e a maioria
+ * ocupa um ou dois bytes. O índice fica no fim para que a gravação seja
+ * feita em uma passada; o cabeçalho é completado em {@link #concluir()}.
+ */
+public class EscritorOrdenadoBinario implements ConsumidorInteiros, Closeable {
+
+    static final int MAGICO = 0x4F524442; // "ORDB"
+    static final int VERSAO = 1;
+    static final int TAMANHO_CABECALHO = 32;
+    static final int TAMANHO_ENTRADA_INDICE = Long.BYTES + 3 * Integer.BYTES;
+    static final int VALORES_POR_BLOCO_PADRAO = 4096;
+    static final int BYTES_MAXIMOS_VARINT = 5;
+    static final int MAXIMO_VALORES_POR_BLOCO = 1 << 20;
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
+    private final Path arquivo;
+    private final FileChannel canal;
+    private final int valoresPorBloco;
+    private final int[] bloco;
+    private final ByteBuffer buffer;
+    private int tamanhoBloco;
+    private long posicao = TAMANHO_CABECALHO;
+    private long quantidade;
+    private boolean primeiro = true;
+    private int anterior;
+    private boolean concluido;
+
+    // Índice dos blocos, gravado no fim
+    private long[] posicoes = new long[16];
+    private int[] quantidades = new int[16];
+    private int[] minimos = new int[16];
+    private int[] maximos = new int[16];
+    private int quantidadeBlocos;
+
+    public EscritorOrdenadoBinario(Path arquivo) throws IOException {
+        this(arquivo, VALORES_POR_BLOCO_PADRAO);
+    }
+
+    /**
+     * @param valoresPorBloco blocos menores permitem pular mais precisamente, com um índice maior
+     * @throws IllegalArgumentException se não estiver entre 1 e {@value #MAXIMO_VALORES_POR_BLOCO}
+     */
+    public EscritorOrdenadoBinario(Path arquivo, int valoresPorBloco) throws IOException {
+        if (valoresPorBloco < 1 || valoresPorBloco > MAXIMO_VALORES_POR_BLOCO) {
+            throw new IllegalArgumentException("A quantidade de valores por bloco deve estar entre 1 e "
+                    + MAXIMO_VALORES_POR_BLOCO + ": " + valoresPorBloco);
+        }
+        this.arquivo = arquivo;
+        this.valoresPorBloco = valoresPorBloco;
+        this.bloco = new int[valoresPorBloco];
+        this.buffer = ByteBuffer.allocateDirect(Math.max(TAMANHO_BUFFER, valoresPorBloco * BYTES_MAXIMOS_VARINT));
+        this.canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        // O cabeçalho só é conhecido no fim; os blocos começam logo depois dele
+        canal.position(TAMANHO_CABECALHO);
+    }
+
+    /**
+     * @throws IllegalArgumentException se o valor for menor que o anterior
+     */
+    @Override
+    public void aceitar(int valor) throws IOException {
+        if (!primeiro && valor < anterior) {
+            throw new IllegalArgumentException("Os valores devem estar em ordem crescente: " + valor + " depois de " + anterior);
+        }
+        primeiro = false;
+        anterior = valor;
+        bloco[tamanhoBloco++] = valor;
+        quantidade++;
+        if (tamanhoBloco == valoresPorBloco) {
+            gravarBloco();
+        }
+    }
+
+    public long getQuantidade() {
+        return quantidade;
+    }
+
+    private void gravarBloco() throws IOException {
+        if (tamanhoBloco == 0) {
+            return;
+        }
+        if (buffer.remaining() < tamanhoBloco * BYTES_MAXIMOS_VARINT) {
+            descarregar();
+        }
+        int inicio = buffer.position();
+        int valorAnterior = bloco[0];
+        for (int i = 0; i < tamanhoBloco; i++) {
+            // Diferença sem sinal: cabe em 32 bits mesmo entre os extremos
+            int diferenca = bloco[i] - valorAnterior;
+            while ((diferenca & ~0x7F) != 0) {
+                buffer.put((byte) ((diferenca & 0x7F) | 0x80));
+                diferenca >>>= 7;
+            }
+            buffer.put((byte) diferenca);
+            valorAnterior = bloco[i];
+        }
+
+        if (quantidadeBlocos == posicoes.length) {
+            int novo = 2 * posicoes.length;
+            posicoes = Arrays.copyOf(posicoes, novo);
+            quantidades = Arrays.copyOf(quantidades, novo);
+            minimos = Arrays.copyOf(minimos, novo);
+            maximos = Arrays.copyOf(maximos, novo);
+        }
+        posicoes[quantidadeBlocos] = posicao;
+        quantidades[quantidadeBlocos] = tamanhoBloco;
+        minimos[quantidadeBlocos] = bloco[0];
+        maximos[quantidadeBlocos] = bloco[tamanhoBloco - 1];
+        quantidadeBlocos++;
+        posicao += buffer.position() - inicio;
+        tamanhoBloco = 0;
+    }
+
+    private void descarregar() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Grava o último bloco, o índice e o cabeçalho, e fecha o arquivo. Só
+     * depois desta chamada o arquivo pode ser aberto por {@link LeitorOrdenadoBinario}.
+     */
+    public void concluir() throws IOException {
+        if (!canal.isOpen()) {
+            throw new IllegalStateException("O arquivo já foi fechado");
+        }
+        try {
+            gravarBloco();
+            long posicaoIndice = posicao;
+            for (int i = 0; i < quantidadeBlocos; i++) {
+                if (buffer.remaining() < TAMANHO_ENTRADA_INDICE) {
+                    descarregar();
+                }
+                buffer.putLong(posicoes[i]).putInt(quantidades[i]).putInt(minimos[i]).putInt(maximos[i]);
+            }
+            descarregar();
+
+            buffer.putInt(MAGICO).putInt(VERSAO).putInt(valoresPorBloco).putInt(quantidadeBlocos)
+                    .putLong(quantidade).putLong(posicaoIndice);
+            buffer.flip();
+            long posicaoCabecalho = 0;
+            while (buffer.hasRemaining()) {
+                posicaoCabecalho += canal.write(buffer, posicaoCabecalho);
+            }
+            buffer.clear();
+            concluido = true;
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Fecha o arquivo; se {@link #concluir()} não foi chamado, por exemplo
+     * porque a entrada falhou no meio, o arquivo incompleto é apagado
+     */
+    @Override
+    public void close() throws IOException {
+        if (!canal.isOpen()) {
+            return;
+        }
+        try {
+            canal.close();
+        } finally {
+            if (!concluido) {
+                Files.deleteIfExists(arquivo);
+            }
+        }
+    }
+}
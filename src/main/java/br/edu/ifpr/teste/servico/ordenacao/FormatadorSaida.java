@@ -0,0 +1,113 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Formata números no padrão de impressão do {@link ServicoOrdenacao}
+ * ({@code "a, b, c"}), escrevendo direto em um {@link OutputStream} ou
+ * {@link Writer} à medida que os valores chegam. Os dígitos são gerados em um
+ * buffer de bytes ASCII, sem {@link Integer#toString(int)}.
+ */
+public class FormatadorSaida implements ConsumidorInteiros, Closeable {
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+    private static final String SEPARADOR = ", ";
+    private static final int TAMANHO_SEPARADOR = SEPARADOR.length();
+
+    private final OutputStream outputStream;
+    private final Writer writer;
+    private final byte[] buffer = new byte[TAMANHO_BUFFER];
+    private final char[] caracteres;
+    private int posicao;
+    private boolean primeiro = true;
+
+    public FormatadorSaida(OutputStream outputStream) {
+        this.outputStream = outputStream;
+        this.writer = null;
+        this.caracteres = null;
+    }
+
+    public FormatadorSaida(Writer writer) {
+        this.outputStream = null;
+        this.writer = writer;
+        this.caracteres = new char[TAMANHO_BUFFER];
+    }
+
+    /**
+     * Formata o trecho do array como {@code "a, b, c"} em uma única alocação
+     * do tamanho exato; um trecho vazio resulta em {@code ""}
+     */
+    public static String formatar(int[] dados, int inicio, int fim) {
+        if (inicio >= fim) {
+            return "";
+        }
+        long tamanho = (long) (fim - inicio - 1) * TAMANHO_SEPARADOR;
+        for (int i = inicio; i < fim; i++) {
+            tamanho += Digitos.tamanho(dados[i]);
+        }
+        if (tamanho > Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError("Saída formatada excede o tamanho máximo de uma String");
+        }
+
+        byte[] saida = new byte[(int) tamanho];
+        int posicao = Digitos.escrever(dados[inicio], saida, 0);
+        for (int i = inicio + 1; i < fim; i++) {
+            saida[posicao++] = ',';
+            saida[posicao++] = ' ';
+            posicao = Digitos.escrever(dados[i], saida, posicao);
+        }
+        return new String(saida, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public void aceitar(int valor) throws IOException {
+        if (posicao + TAMANHO_SEPARADOR + Digitos.TAMANHO_MAXIMO > buffer.length) {
+            descarregar();
+        }
+        if (primeiro) {
+            primeiro = false;
+        } else {
+            buffer[posicao++] = ',';
+            buffer[posicao++] = ' ';
+        }
+        posicao = Digitos.escrever(valor, buffer, posicao);
+    }
+
+    public void flush() throws IOException {
+        descarregar();
+        if (writer != null) {
+            writer.flush();
+        } else {
+            outputStream.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            if (writer != null) {
+                writer.close();
+            } else {
+                outputStream.close();
+            }
+        }
+    }
+
+    private void descarregar() throws IOException {
+        if (writer != null) {
+            for (int i = 0; i < posicao; i++) {
+                caracteres[i] = (char) buffer[i];
+            }
+            writer.write(caracteres, 0, posicao);
+        } else {
+            outputStream.write(buffer, 0, posicao);
+        }
+        posicao = 0;
+    }
+}
@@ -0,0 +1,198 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Leitor do formato de entrada do {@link ServicoOrdenacao}: a quantidade de
+ * números na primeira linha e depois um número por linha.
+ *
+ * Os números são convertidos direto dos bytes, sem criar uma {@link String}
+ * por linha. Arquivos informados por {@link Path} são mapeados em memória
+ * em janelas de até {@value #TAMANHO_JANELA} bytes.
+ *
+ * Linhas inválidas geram {@link NumberFormatException}, assim como
+ * {@link Integer#parseInt(String)}; apenas dígitos ASCII são aceitos.
+ */
+public class LeitorNumeros implements Closeable {
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+    private static final long TAMANHO_JANELA = 256L * 1024 * 1024;
+    private static final int TAMANHO_MAXIMO_LINHA_REGISTRADA = 64;
+    private static final int CAPACIDADE_INICIAL_MAXIMA = 1 << 20;
+
+    private final InputStream inputStream;
+    private final FileChannel canal;
+    private ByteBuffer buffer;
+    private long posicaoCanal;
+
+    // Início da linha atual, guardado apenas para a mensagem de erro
+    private final byte[] linhaAtual = new byte[TAMANHO_MAXIMO_LINHA_REGISTRADA];
+    private int tamanhoLinhaAtual;
+
+    public LeitorNumeros(InputStream inputStream) {
+        this.inputStream = inputStream;
+        this.canal = null;
+        this.buffer = ByteBuffer.allocate(TAMANHO_BUFFER);
+        this.buffer.limit(0);
+    }
+
+    private LeitorNumeros(FileChannel canal) {
+        this.inputStream = null;
+        this.canal = canal;
+        this.buffer = ByteBuffer.allocate(0);
+    }
+
+    /**
+     * Abre o arquivo informado usando mapeamento em memória
+     */
+    public static LeitorNumeros de(Path arquivo) throws IOException {
+        return new LeitorNumeros(FileChannel.open(arquivo, StandardOpenOption.READ));
+    }
+
+    /**
+     * Lê a primeira linha do arquivo, com a quantidade de números
+     */
+    public int lerQuantidade() throws IOException {
+        return proximoInteiro();
+    }
+
+    /**
+     * Lê a próxima linha como um inteiro
+     * @throws NumberFormatException se a linha não existir ou não for um inteiro válido
+     */
+    public int proximoInteiro() throws IOException {
+        int b = lerByte();
+        if (b < 0) {
+            throw new NumberFormatException("Cannot parse null string: null");
+        }
+
+        tamanhoLinhaAtual = 0;
+        boolean negativo = false;
+        long limite = -Integer.MAX_VALUE;
+        if (b == '-' || b == '+') {
+            negativo = b == '-';
+            if (negativo) {
+                limite = Integer.MIN_VALUE;
+            }
+            registrar(b);
+            b = lerByte();
+        }
+
+        // Acumula em negativo, como Integer.parseInt, para aceitar Integer.MIN_VALUE
+        long resultado = 0;
+        int digitos = 0;
+        boolean valido = true;
+        while (b >= 0 && b != '\n' && b != '\r') {
+            registrar(b);
+            if (valido) {
+                int digito = b - '0';
+                if (digito < 0 || digito > 9) {
+                    valido = false;
+                } else {
+                    resultado = resultado * 10 - digito;
+                    if (resultado < limite) {
+                        valido = false;
+                    }
+                    digitos++;
+                }
+            }
+            b = lerByte();
+        }
+        if (b == '\r' && temBytes() && buffer.get(buffer.position()) == '\n') {
+            buffer.get();
+        }
+
+        if (!valido || digitos == 0) {
+            throw new NumberFormatException("For input string: \"" + linhaAtual() + "\"");
+        }
+        return (int) (negativo ? resultado : -resultado);
+    }
+
+    /**
+     * Lê o cabeçalho e todos os números do arquivo
+     */
+    public VetorInteiros lerVetor() throws IOException {
+        int quantidadeDeNumeros = lerQuantidade();
+        VetorInteiros vetor = new VetorInteiros(capacidadeInicial(quantidadeDeNumeros));
+        for (int i = 0; i < quantidadeDeNumeros; i++) {
+            vetor.adicionar(proximoInteiro());
+        }
+        return vetor;
+    }
+
+    /**
+     * Limita a reserva inicial, pois o cabeçalho pode estar corrompido: em
+     * arquivos, cada número ocupa ao menos dois bytes; em fluxos, o vetor
+     * cresce conforme os números chegam
+     */
+    private int capacidadeInicial(int quantidadeDeNumeros) throws IOException {
+        long limite = canal != null ? canal.size() / 2 + 1 : CAPACIDADE_INICIAL_MAXIMA;
+        return (int) Math.max(0, Math.min(quantidadeDeNumeros, limite));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (inputStream != null) {
+            inputStream.close();
+        }
+        if (canal != null) {
+            canal.close();
+        }
+    }
+
+    private int lerByte() throws IOException {
+        if (!temBytes()) {
+            return -1;
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    private boolean temBytes() throws IOException {
+        return buffer.hasRemaining() || recarregar();
+    }
+
+    private boolean recarregar() throws IOException {
+        if (canal != null) {
+            long tamanho = canal.size();
+            if (posicaoCanal >= tamanho) {
+                return false;
+            }
+            long janela = Math.min(TAMANHO_JANELA, tamanho - posicaoCanal);
+            buffer = canal.map(FileChannel.MapMode.READ_ONLY, posicaoCanal, janela);
+            posicaoCanal += janela;
+            return true;
+        }
+
+        int lidos;
+        do {
+            lidos = inputStream.read(buffer.array(), 0, buffer.capacity());
+        } while (lidos == 0);
+        if (lidos < 0) {
+            buffer.limit(0);
+            return false;
+        }
+        buffer.position(0);
+        buffer.limit(lidos);
+        return true;
+    }
+
+    private void registrar(int b) {
+        if (tamanhoLinhaAtual < linhaAtual.length) {
+            linhaAtual[tamanhoLinhaAtual] = (byte) b;
+        }
+        tamanhoLinhaAtual++;
+    }
+
+    private String linhaAtual() {
+        int tamanho = Math.min(tamanhoLinhaAtual, linhaAtual.length);
+        String linha = new String(linhaAtual, 0, tamanho, StandardCharsets.UTF_8);
+        return tamanhoLinhaAtual > linhaAtual.length ? linha + "..." : linha;
+    }
+}
@@ -0,0 +1,176 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Lê arquivos gravados por {@link EscritorOrdenadoBinario}. O índice de
+ * blocos é carregado na abertura, então consultas por intervalo leem do
+ * disco apenas os blocos cujo mínimo e máximo cruzam o intervalo.
+ */
+public class LeitorOrdenadoBinario implements Closeable {
+
+    private final FileChannel canal;
+    private final long quantidade;
+    private final long posicaoIndice;
+    private final long[] posicoes;
+    private final int[] quantidades;
+    private final int[] minimos;
+    private final int[] maximos;
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+
+    private LeitorOrdenadoBinario(FileChannel canal, long quantidade, long posicaoIndice, int blocos) {
+        this.canal = canal;
+        this.quantidade = quantidade;
+        this.posicaoIndice = posicaoIndice;
+        this.posicoes = new long[blocos];
+        this.quantidades = new int[blocos];
+        this.minimos = new int[blocos];
+        this.maximos = new int[blocos];
+    }
+
+    /**
+     * @throws IOException se o arquivo não estiver no formato esperado
+     */
+    public static LeitorOrdenadoBinario abrir(Path arquivo) throws IOException {
+        FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ);
+        try {
+            ByteBuffer cabecalho = ByteBuffer.allocate(EscritorOrdenadoBinario.TAMANHO_CABECALHO);
+            lerCompleto(canal, cabecalho, 0);
+            if (cabecalho.getInt() != EscritorOrdenadoBinario.MAGICO) {
+                throw new IOException("Arquivo não está no formato binário ordenado: " + arquivo);
+            }
+            if (cabecalho.getInt() != EscritorOrdenadoBinario.VERSAO) {
+                throw new IOException("Versão do formato binário não suportada: " + arquivo);
+            }
+            cabecalho.getInt(); // valores por bloco, informativo
+            int blocos = cabecalho.getInt();
+            long quantidade = cabecalho.getLong();
+            long posicaoIndice = cabecalho.getLong();
+            if (blocos < 0 || quantidade < 0 || posicaoIndice < EscritorOrdenadoBinario.TAMANHO_CABECALHO
+                    || posicaoIndice + (long) blocos * EscritorOrdenadoBinario.TAMANHO_ENTRADA_INDICE != canal.size()) {
+                throw new IOException("Cabeçalho inválido ou arquivo truncado: " + arquivo);
+            }
+
+            LeitorOrdenadoBinario leitor = new LeitorOrdenadoBinario(canal, quantidade, posicaoIndice, blocos);
+            ByteBuffer indice = ByteBuffer.allocate(blocos * EscritorOrdenadoBinario.TAMANHO_ENTRADA_INDICE);
+            lerCompleto(canal, indice, posicaoIndice);
+            for (int i = 0; i < blocos; i++) {
+                leitor.posicoes[i] = indice.getLong();
+                leitor.quantidades[i] = indice.getInt();
+                leitor.minimos[i] = indice.getInt();
+                leitor.maximos[i] = indice.getInt();
+            }
+            return leitor;
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    public long getQuantidade() {
+        return quantidade;
+    }
+
+    public int getQuantidadeBlocos() {
+        return posicoes.length;
+    }
+
+    /**
+     * Entrega todos os valores, em ordem crescente, ao destino
+     */
+    public void lerTudo(ConsumidorInteiros destino) throws IOException {
+        for (int i = 0; i < posicoes.length; i++) {
+            lerBloco(i, Integer.MIN_VALUE, Integer.MAX_VALUE, destino);
+        }
+    }
+
+    /**
+     * Entrega ao destino os valores entre {@code minimo} e {@code maximo}
+     * (inclusive), pulando os blocos fora do intervalo
+     * @return a quantidade de blocos lidos do disco
+     */
+    public int lerIntervalo(int minimo, int maximo, ConsumidorInteiros destino) throws IOException {
+        if (minimo > maximo) {
+            return 0;
+        }
+        // Primeiro bloco cujo máximo alcança o mínimo pedido; os máximos são crescentes
+        int inicio = 0;
+        int fim = posicoes.length;
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (maximos[meio] < minimo) {
+                inicio = meio + 1;
+            } else {
+                fim = meio;
+            }
+        }
+        int lidos = 0;
+        for (int i = inicio; i < posicoes.length && minimos[i] <= maximo; i++) {
+            lerBloco(i, minimo, maximo, destino);
+            lidos++;
+        }
+        return lidos;
+    }
+
+    public VetorInteiros lerVetor() throws IOException {
+        if (quantidade > Integer.MAX_VALUE - 8) {
+            throw new IOException("Valores demais para um vetor: " + quantidade);
+        }
+        VetorInteiros vetor = new VetorInteiros((int) quantidade);
+        lerTudo(vetor::adicionar);
+        return vetor;
+    }
+
+    private void lerBloco(int bloco, int minimo, int maximo, ConsumidorInteiros destino) throws IOException {
+        long fimBloco = bloco + 1 < posicoes.length ? posicoes[bloco + 1] : posicaoIndice;
+        int bytes = (int) (fimBloco - posicoes[bloco]);
+        if (buffer.capacity() < bytes) {
+            buffer = ByteBuffer.allocateDirect(bytes);
+        }
+        buffer.clear().limit(bytes);
+        lerCompleto(canal, buffer, posicoes[bloco]);
+
+        int valor = minimos[bloco];
+        for (int i = 0; i < quantidades[bloco]; i++) {
+            int diferenca = 0;
+            int deslocamento = 0;
+            byte b;
+            do {
+                if (!buffer.hasRemaining()) {
+                    throw new IOException("Bloco " + bloco + " corrompido");
+                }
+                b = buffer.get();
+                diferenca |= (b & 0x7F) << deslocamento;
+                deslocamento += 7;
+            } while (b < 0);
+            valor += diferenca;
+            if (valor > maximo) {
+                return;
+            }
+            if (valor >= minimo) {
+                destino.aceitar(valor);
+            }
+        }
+    }
+
+    private static void lerCompleto(FileChannel canal, ByteBuffer destino, long posicao) throws IOException {
+        while (destino.hasRemaining()) {
+            int lidos = canal.read(destino, posicao);
+            if (lidos < 0) {
+                throw new IOException("Fim inesperado do arquivo");
+            }
+            posicao += lidos;
+        }
+        destino.flip();
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+}
@@ -0,0 +1,423 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * Conjunto de inteiros em um mapa de bits compactado, no estilo Roaring:
+ * os valores são agrupados pelos 16 bits altos e cada grupo guarda os 16
+ * bits baixos em um array ordenado (até 4096 valores, 2 bytes cada) ou em
+ * um mapa de bits de 8 KiB (grupos densos). Assim faixas esparsas e densas
+ * ocupam pouca memória, e a iteração sai em ordem crescente e sem repetições.
+ *
+ * Não é seguro para uso concorrente com escritas.
+ */
+public class MapaBitsCompactado implements ConsumidorInteiros {
+
+    private static final int LIMITE_ARRAY = 4096;
+    private static final int PALAVRAS_MAPA = 1024;
+
+    // Chaves: 16 bits altos com o bit de sinal invertido, para a ordem sem sinal seguir a ordem com sinal
+    private char[] chaves = new char[4];
+    private Conteiner[] conteineres = new Conteiner[4];
+    private int quantidadeConteineres;
+
+    public MapaBitsCompactado() {
+    }
+
+    public static MapaBitsCompactado de(int[] dados, int inicio, int fim) {
+        MapaBitsCompactado mapa = new MapaBitsCompactado();
+        for (int i = inicio; i < fim; i++) {
+            mapa.adicionar(dados[i]);
+        }
+        return mapa;
+    }
+
+    @Override
+    public void aceitar(int valor) {
+        adicionar(valor);
+    }
+
+    /**
+     * @return true se o valor ainda não estava no conjunto
+     */
+    public boolean adicionar(int valor) {
+        char chave = chave(valor);
+        int posicao = buscar(chave);
+        if (posicao < 0) {
+            posicao = -posicao - 1;
+            inserirConteiner(posicao, chave, new Conteiner());
+        }
+        return conteineres[posicao].adicionar((char) valor);
+    }
+
+    public boolean contem(int valor) {
+        int posicao = buscar(chave(valor));
+        return posicao >= 0 && conteineres[posicao].contem((char) valor);
+    }
+
+    public long cardinalidade() {
+        long total = 0;
+        for (int i = 0; i < quantidadeConteineres; i++) {
+            total += conteineres[i].cardinalidade;
+        }
+        return total;
+    }
+
+    public boolean vazio() {
+        return quantidadeConteineres == 0;
+    }
+
+    /**
+     * Entrega os valores em ordem crescente ao destino
+     */
+    public void paraCada(ConsumidorInteiros destino) throws IOException {
+        for (int i = 0; i < quantidadeConteineres; i++) {
+            conteineres[i].paraCada((chaves[i] ^ 0x8000) << 16, destino);
+        }
+    }
+
+    /**
+     * Os valores em ordem crescente
+     * @throws IllegalStateException se houver valores demais para um array
+     */
+    public VetorInteiros paraVetor() {
+        long quantidade = cardinalidade();
+        if (quantidade > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("O conjunto tem valores demais para um vetor: " + quantidade);
+        }
+        VetorInteiros vetor = new VetorInteiros((int) quantidade);
+        try {
+            paraCada(vetor::adicionar);
+        } catch (IOException e) {
+            // O vetor não lança IOException
+            throw new UncheckedIOException(e);
+        }
+        return vetor;
+    }
+
+    /**
+     * Memória aproximada usada pelos valores, em bytes
+     */
+    public long bytesUsados() {
+        long total = (long) chaves.length * Character.BYTES;
+        for (int i = 0; i < quantidadeConteineres; i++) {
+            Conteiner conteiner = conteineres[i];
+            total += conteiner.bits != null ? (long) PALAVRAS_MAPA * Long.BYTES
+                    : (long) conteiner.valores.length * Character.BYTES;
+        }
+        return total;
+    }
+
+    public MapaBitsCompactado uniao(MapaBitsCompactado outro) {
+        return combinar(this, outro, OPERACAO_UNIAO);
+    }
+
+    public MapaBitsCompactado intersecao(MapaBitsCompactado outro) {
+        return combinar(this, outro, OPERACAO_INTERSECAO);
+    }
+
+    /**
+     * Valores deste conjunto que não estão no outro
+     */
+    public MapaBitsCompactado diferenca(MapaBitsCompactado outro) {
+        return combinar(this, outro, OPERACAO_DIFERENCA);
+    }
+
+    private static final int OPERACAO_UNIAO = 0;
+    private static final int OPERACAO_INTERSECAO = 1;
+    private static final int OPERACAO_DIFERENCA = 2;
+
+    private static MapaBitsCompactado combinar(MapaBitsCompactado a, MapaBitsCompactado b, int operacao) {
+        MapaBitsCompactado resultado = new MapaBitsCompactado();
+        int i = 0;
+        int j = 0;
+        while (i < a.quantidadeConteineres || j < b.quantidadeConteineres) {
+            int chaveA = i < a.quantidadeConteineres ? a.chaves[i] : Integer.MAX_VALUE;
+            int chaveB = j < b.quantidadeConteineres ? b.chaves[j] : Integer.MAX_VALUE;
+            if (chaveA < chaveB) {
+                if (operacao != OPERACAO_INTERSECAO) {
+                    resultado.anexar((char) chaveA, a.conteineres[i].copia());
+                }
+                i++;
+            } else if (chaveB < chaveA) {
+                if (operacao == OPERACAO_UNIAO) {
+                    resultado.anexar((char) chaveB, b.conteineres[j].copia());
+                }
+                j++;
+            } else {
+                Conteiner conteiner = Conteiner.combinar(a.conteineres[i], b.conteineres[j], operacao);
+                if (conteiner != null) {
+                    resultado.anexar((char) chaveA, conteiner);
+                }
+                i++;
+                j++;
+            }
+        }
+        return resultado;
+    }
+
+    private static char chave(int valor) {
+        return (char) ((valor >>> 16) ^ 0x8000);
+    }
+
+    private int buscar(char chave) {
+        // Entradas ordenadas caem quase sempre no último contêiner
+        int ultimo = quantidadeConteineres - 1;
+        if (ultimo >= 0 && chaves[ultimo] == chave) {
+            return ultimo;
+        }
+        if (ultimo < 0 || chaves[ultimo] < chave) {
+            return -(ultimo + 1) - 1;
+        }
+        return Arrays.binarySearch(chaves, 0, quantidadeConteineres, chave);
+    }
+
+    private void anexar(char chave, Conteiner conteiner) {
+        inserirConteiner(quantidadeConteineres, chave, conteiner);
+    }
+
+    private void inserirConteiner(int posicao, char chave, Conteiner conteiner) {
+        if (quantidadeConteineres == chaves.length) {
+            chaves = Arrays.copyOf(chaves, 2 * chaves.length);
+            conteineres = Arrays.copyOf(conteineres, 2 * conteineres.length);
+        }
+        System.arraycopy(chaves, posicao, chaves, posicao + 1, quantidadeConteineres - posicao);
+        System.arraycopy(conteineres, posicao, conteineres, posicao + 1, quantidadeConteineres - posicao);
+        chaves[posicao] = chave;
+        conteineres[posicao] = conteiner;
+        quantidadeConteineres++;
+    }
+
+    /**
+     * Os 16 bits baixos de um grupo: array ordenado enquanto couber em
+     * {@link #LIMITE_ARRAY} valores, mapa de bits depois disso
+     */
+    private static final class Conteiner {
+
+        char[] valores = new char[4];
+        long[] bits;
+        int cardinalidade;
+
+        boolean adicionar(char baixo) {
+            if (bits != null) {
+                long palavra = bits[baixo >>> 6];
+                long mascara = 1L << baixo;
+                if ((palavra & mascara) != 0) {
+                    return false;
+                }
+                bits[baixo >>> 6] = palavra | mascara;
+                cardinalidade++;
+                return true;
+            }
+
+            int posicao = cardinalidade > 0 && valores[cardinalidade - 1] < baixo
+                    ? -cardinalidade - 1
+                    : Arrays.binarySearch(valores, 0, cardinalidade, baixo);
+            if (posicao >= 0) {
+                return false;
+            }
+            if (cardinalidade == LIMITE_ARRAY) {
+                bits = comoBits();
+                valores = null;
+                return adicionar(baixo);
+            }
+            posicao = -posicao - 1;
+            if (cardinalidade == valores.length) {
+                valores = Arrays.copyOf(valores, Math.min(2 * valores.length, LIMITE_ARRAY));
+            }
+            System.arraycopy(valores, posicao, valores, posicao + 1, cardinalidade - posicao);
+            valores[posicao] = baixo;
+            cardinalidade++;
+            return true;
+        }
+
+        boolean contem(char baixo) {
+            if (bits != null) {
+                return (bits[baixo >>> 6] & (1L << baixo)) != 0;
+            }
+            return Arrays.binarySearch(valores, 0, cardinalidade, baixo) >= 0;
+        }
+
+        /**
+         * Combina dois contêineres do mesmo grupo; null se o resultado for vazio.
+         * Dois arrays são intercalados direto, como no Roaring; o mapa de bits só
+         * é usado quando um dos lados já é um mapa.
+         */
+        static Conteiner combinar(Conteiner a, Conteiner b, int operacao) {
+            if (a.bits == null && b.bits == null) {
+                return intercalar(a, b, operacao);
+            }
+            if (operacao == OPERACAO_INTERSECAO && (a.bits == null || b.bits == null)) {
+                // O resultado cabe no array do lado menor: filtra-o pelo mapa do outro
+                return a.bits == null ? filtrar(a, b, true) : filtrar(b, a, true);
+            }
+            if (operacao == OPERACAO_DIFERENCA && a.bits == null) {
+                return filtrar(a, b, false);
+            }
+
+            long[] bits;
+            if (a.bits != null && b.bits != null) {
+                bits = new long[PALAVRAS_MAPA];
+                for (int p = 0; p < PALAVRAS_MAPA; p++) {
+                    if (operacao == OPERACAO_UNIAO) {
+                        bits[p] = a.bits[p] | b.bits[p];
+                    } else if (operacao == OPERACAO_INTERSECAO) {
+                        bits[p] = a.bits[p] & b.bits[p];
+                    } else {
+                        bits[p] = a.bits[p] & ~b.bits[p];
+                    }
+                }
+            } else if (operacao == OPERACAO_UNIAO) {
+                // Um mapa e um array: copia o mapa e liga os bits do array
+                Conteiner mapa = a.bits != null ? a : b;
+                Conteiner array = a.bits != null ? b : a;
+                bits = mapa.bits.clone();
+                for (int k = 0; k < array.cardinalidade; k++) {
+                    bits[array.valores[k] >>> 6] |= 1L << array.valores[k];
+                }
+            } else {
+                // Diferença de um mapa menos um array: desliga os bits do array
+                bits = a.bits.clone();
+                for (int k = 0; k < b.cardinalidade; k++) {
+                    bits[b.valores[k] >>> 6] &= ~(1L << b.valores[k]);
+                }
+            }
+            return deBits(bits);
+        }
+
+        private static Conteiner intercalar(Conteiner a, Conteiner b, int operacao) {
+            char[] resultado = new char[operacao == OPERACAO_UNIAO ? a.cardinalidade + b.cardinalidade
+                    : operacao == OPERACAO_INTERSECAO ? Math.min(a.cardinalidade, b.cardinalidade) : a.cardinalidade];
+            int quantidade = 0;
+            int i = 0;
+            int j = 0;
+            while (i < a.cardinalidade && j < b.cardinalidade) {
+                char valorA = a.valores[i];
+                char valorB = b.valores[j];
+                if (valorA < valorB) {
+                    if (operacao != OPERACAO_INTERSECAO) {
+                        resultado[quantidade++] = valorA;
+                    }
+                    i++;
+                } else if (valorB < valorA) {
+                    if (operacao == OPERACAO_UNIAO) {
+                        resultado[quantidade++] = valorB;
+                    }
+                    j++;
+                } else {
+                    if (operacao != OPERACAO_DIFERENCA) {
+                        resultado[quantidade++] = valorA;
+                    }
+                    i++;
+                    j++;
+                }
+            }
+            if (operacao != OPERACAO_INTERSECAO) {
+                System.arraycopy(a.valores, i, resultado, quantidade, a.cardinalidade - i);
+                quantidade += a.cardinalidade - i;
+            }
+            if (operacao == OPERACAO_UNIAO) {
+                System.arraycopy(b.valores, j, resultado, quantidade, b.cardinalidade - j);
+                quantidade += b.cardinalidade - j;
+            }
+            return deArray(resultado, quantidade);
+        }
+
+        /**
+         * Valores do array que estão ({@code manter} true) ou não estão no mapa
+         */
+        private static Conteiner filtrar(Conteiner array, Conteiner mapa, boolean manter) {
+            char[] resultado = new char[array.cardinalidade];
+            int quantidade = 0;
+            for (int k = 0; k < array.cardinalidade; k++) {
+                char valor = array.valores[k];
+                if (mapa.contem(valor) == manter) {
+                    resultado[quantidade++] = valor;
+                }
+            }
+            return deArray(resultado, quantidade);
+        }
+
+        /**
+         * Contêiner com os primeiros {@code quantidade} valores ordenados; null se vazio
+         */
+        private static Conteiner deArray(char[] valores, int quantidade) {
+            if (quantidade == 0) {
+                return null;
+            }
+            Conteiner conteiner = new Conteiner();
+            conteiner.cardinalidade = quantidade;
+            if (quantidade > LIMITE_ARRAY) {
+                conteiner.valores = valores;
+                conteiner.bits = conteiner.comoBits();
+                conteiner.valores = null;
+                return conteiner;
+            }
+            conteiner.valores = quantidade == valores.length ? valores : Arrays.copyOf(valores, quantidade);
+            return conteiner;
+        }
+
+        long[] comoBits() {
+            if (bits != null) {
+                return bits;
+            }
+            long[] mapa = new long[PALAVRAS_MAPA];
+            for (int i = 0; i < cardinalidade; i++) {
+                mapa[valores[i] >>> 6] |= 1L << valores[i];
+            }
+            return mapa;
+        }
+
+        /**
+         * Contêiner com os bits dados, na forma mais compacta; null se estiver vazio
+         */
+        static Conteiner deBits(long[] mapa) {
+            int quantidade = 0;
+            for (long palavra : mapa) {
+                quantidade += Long.bitCount(palavra);
+            }
+            if (quantidade == 0) {
+                return null;
+            }
+            Conteiner conteiner = new Conteiner();
+            conteiner.cardinalidade = quantidade;
+            if (quantidade > LIMITE_ARRAY) {
+                conteiner.bits = mapa;
+                conteiner.valores = null;
+                return conteiner;
+            }
+            conteiner.valores = new char[quantidade];
+            int posicao = 0;
+            for (int p = 0; p < PALAVRAS_MAPA; p++) {
+                for (long palavra = mapa[p]; palavra != 0; palavra &= palavra - 1) {
+                    conteiner.valores[posicao++] = (char) ((p << 6) + Long.numberOfTrailingZeros(palavra));
+                }
+            }
+            return conteiner;
+        }
+
+        Conteiner copia() {
+            Conteiner copia = new Conteiner();
+            copia.cardinalidade = cardinalidade;
+            copia.valores = valores != null ? Arrays.copyOf(valores, cardinalidade) : null;
+            copia.bits = bits != null ? bits.clone() : null;
+            return copia;
+        }
+
+        void paraCada(int base, ConsumidorInteiros destino) throws IOException {
+            if (bits == null) {
+                for (int i = 0; i < cardinalidade; i++) {
+                    destino.aceitar(base | valores[i]);
+                }
+                return;
+            }
+            for (int p = 0; p < PALAVRAS_MAPA; p++) {
+                for (long palavra = bits[p]; palavra != 0; palavra &= palavra - 1) {
+                    destino.aceitar(base | ((p << 6) + Long.numberOfTrailingZeros(palavra)));
+                }
+            }
+        }
+    }
+}
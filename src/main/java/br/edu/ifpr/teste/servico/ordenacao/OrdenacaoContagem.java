@@ -0,0 +1,108 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+/**
+ * Ordenação por contagem para faixas densas, como identificadores em um
+ * intervalo conhecido com muitas repetições: uma passada para contar e
+ * outra para reescrever, sem comparações.
+ *
+ * Se a faixa não for informada ela é medida em uma passada extra. Quando a
+ * faixa é esparsa demais (mais de dois contadores por elemento) a ordenação
+ * é delegada a outro algoritmo, por padrão {@link OrdenacaoRadix}.
+ */
+public class OrdenacaoContagem implements AlgoritmoOrdenacao {
+
+    private static final int CONTADORES_POR_ELEMENTO = 2;
+    // Faixas pequenas usam contagem mesmo com poucos elementos
+    private static final int FAIXA_MINIMA = 1 << 10;
+    private static final long FAIXA_MAXIMA = Integer.MAX_VALUE - 8;
+
+    private final AlgoritmoOrdenacao alternativo;
+    private final boolean faixaConhecida;
+    private final int minimo;
+    private final int maximo;
+
+    public OrdenacaoContagem() {
+        this(new OrdenacaoRadix());
+    }
+
+    /**
+     * @param alternativo algoritmo usado quando a faixa é esparsa
+     */
+    public OrdenacaoContagem(AlgoritmoOrdenacao alternativo) {
+        this.alternativo = alternativo;
+        this.faixaConhecida = false;
+        this.minimo = 0;
+        this.maximo = 0;
+    }
+
+    /**
+     * Usa a faixa informada sem medi-la; a contagem é usada sempre
+     * @throws IllegalArgumentException se a faixa for inválida ou grande demais para um array
+     */
+    public OrdenacaoContagem(int minimo, int maximo) {
+        if (minimo > maximo || (long) maximo - minimo + 1 > FAIXA_MAXIMA) {
+            throw new IllegalArgumentException("Faixa inválida: " + minimo + " a " + maximo);
+        }
+        this.alternativo = null;
+        this.faixaConhecida = true;
+        this.minimo = minimo;
+        this.maximo = maximo;
+    }
+
+    /**
+     * @throws IllegalArgumentException se, com faixa informada, houver valor fora dela; o array não é alterado
+     */
+    @Override
+    public void ordenar(int[] dados, int inicio, int fim) {
+        if (fim - inicio < 2) {
+            return;
+        }
+        if (faixaConhecida) {
+            contar(dados, inicio, fim, minimo, maximo);
+            return;
+        }
+
+        int menor = dados[inicio];
+        int maior = dados[inicio];
+        for (int i = inicio + 1; i < fim; i++) {
+            int valor = dados[i];
+            if (valor < menor) {
+                menor = valor;
+            } else if (valor > maior) {
+                maior = valor;
+            }
+        }
+        if (densa((long) maior - menor + 1, fim - inicio)) {
+            contar(dados, inicio, fim, menor, maior);
+        } else {
+            alternativo.ordenar(dados, inicio, fim);
+        }
+    }
+
+    /**
+     * Verdadeiro se a contagem compensa para a faixa e a quantidade de elementos
+     */
+    public static boolean densa(long faixa, int tamanho) {
+        return faixa <= FAIXA_MAXIMA && faixa <= Math.max(FAIXA_MINIMA, (long) CONTADORES_POR_ELEMENTO * tamanho);
+    }
+
+    private static void contar(int[] dados, int inicio, int fim, int menor, int maior) {
+        int[] contadores = new int[maior - menor + 1];
+        for (int i = inicio; i < fim; i++) {
+            int indice = dados[i] - menor;
+            // Comparação sem sinal: cobre também valores abaixo do mínimo
+            if (Integer.compareUnsigned(indice, contadores.length) >= 0) {
+                throw new IllegalArgumentException("Valor fora da faixa " + menor + " a " + maior + ": " + dados[i]);
+            }
+            contadores[indice]++;
+        }
+
+        int posicao = inicio;
+        for (int indice = 0; indice < contadores.length; indice++) {
+            int valor = menor + indice;
+            for (int repeticoes = contadores[indice]; repeticoes > 0; repeticoes--) {
+                dados[posicao++] = valor;
+            }
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ordenação fora da memória para arquivos maiores que o heap.
+ *
+ * Os números são lidos em blocos que cabem no orçamento de memória, cada
+ * bloco é ordenado e gravado em um arquivo temporário binário (4 bytes por
+ * número) e as rodadas são intercaladas ao final com um heap de k vias.
+ * Quando há mais rodadas do que buffers de leitura cabem no orçamento, a
+ * intercalação é feita em mais de uma passada.
+ *
+ * O orçamento cobre tudo o que a ordenação mantém em memória: o bloco, o
+ * vetor auxiliar que a ordenação do bloco pode usar (radix e paralela usam
+ * um do mesmo tamanho), o buffer de gravação da rodada e, nas passadas de
+ * intercalação intermediárias, os buffers de leitura e o de gravação.
+ */
+public class OrdenacaoExterna {
+
+    private static final int BYTES_POR_NUMERO = Integer.BYTES;
+    // Cada número do bloco ocupa também uma posição no vetor auxiliar da ordenação
+    private static final int BYTES_POR_NUMERO_NO_BLOCO = 2 * BYTES_POR_NUMERO;
+    private static final int TAMANHO_BUFFER_RODADA = 64 * 1024;
+    // Intercalação de duas vias: dois buffers de leitura e um de gravação
+    static final long ORCAMENTO_MINIMO = 3L * TAMANHO_BUFFER_RODADA;
+
+    private final long orcamentoMemoria;
+    private final Path diretorioTemporario;
+    private final AlgoritmoOrdenacao algoritmo;
+
+    /**
+     * @param orcamentoMemoria quantidade máxima de bytes mantida em memória pela ordenação
+     */
+    public OrdenacaoExterna(long orcamentoMemoria) {
+        this(orcamentoMemoria, new SeletorAlgoritmo());
+    }
+
+    /**
+     * @param orcamentoMemoria quantidade máxima de bytes mantida em memória pela ordenação
+     * @param algoritmo usado para ordenar cada bloco em memória
+     */
+    public OrdenacaoExterna(long orcamentoMemoria, AlgoritmoOrdenacao algoritmo) {
+        this(orcamentoMemoria, Paths.get(System.getProperty("java.io.tmpdir")), algoritmo);
+    }
+
+    /**
+     * @param orcamentoMemoria quantidade máxima de bytes mantida em memória pela ordenação
+     * @param diretorioTemporario onde as rodadas ordenadas são gravadas
+     */
+    public OrdenacaoExterna(long orcamentoMemoria, Path diretorioTemporario) {
+        this(orcamentoMemoria, diretorioTemporario, new SeletorAlgoritmo());
+    }
+
+    /**
+     * @param orcamentoMemoria quantidade máxima de bytes mantida em memória pela ordenação
+     * @param diretorioTemporario onde as rodadas ordenadas são gravadas
+     * @param algoritmo usado para ordenar cada bloco em memória
+     * @throws IllegalArgumentException se o orçamento for menor que o mínimo de 192 KiB
+     */
+    public OrdenacaoExterna(long orcamentoMemoria, Path diretorioTemporario, AlgoritmoOrdenacao algoritmo) {
+        if (orcamentoMemoria < ORCAMENTO_MINIMO) {
+            throw new IllegalArgumentException("O orçamento de memória deve ser de ao menos " + ORCAMENTO_MINIMO + " bytes");
+        }
+        this.orcamentoMemoria = orcamentoMemoria;
+        this.diretorioTemporario = diretorioTemporario;
+        this.algoritmo = algoritmo;
+    }
+
+    /**
+     * Ordena a entrada e grava a saída no mesmo formato (quantidade e um número por linha)
+     */
+    public void ordenar(InputStream entrada, OutputStream saida) throws IOException {
+        try (LeitorNumeros leitor = new LeitorNumeros(entrada);
+                EscritorNumeros escritor = new EscritorNumeros(saida)) {
+            int quantidade = leitor.lerQuantidade();
+            escritor.escreverQuantidade(Math.max(quantidade, 0));
+            ordenar(leitor, quantidade, escritor);
+        }
+    }
+
+    /**
+     * Lê o cabeçalho e os números do leitor e entrega-os em ordem crescente ao destino
+     * @return a quantidade de números entregues
+     */
+    public long ordenar(LeitorNumeros leitor, ConsumidorInteiros destino) throws IOException {
+        return ordenar(leitor, leitor.lerQuantidade(), destino);
+    }
+
+    /**
+     * Como {@link #ordenar(LeitorNumeros, ConsumidorInteiros)}, com o cabeçalho já lido
+     */
+    long ordenar(LeitorNumeros leitor, int quantidade, ConsumidorInteiros destino) throws IOException {
+        if (quantidade <= 0) {
+            return 0;
+        }
+
+        // Entrada inteira cabe no orçamento: nada a gravar em disco, nem buffer de rodada
+        boolean cabeNaMemoria = (long) quantidade * BYTES_POR_NUMERO_NO_BLOCO <= orcamentoMemoria;
+        long elementosNoOrcamento = cabeNaMemoria
+                ? quantidade
+                : (orcamentoMemoria - TAMANHO_BUFFER_RODADA) / BYTES_POR_NUMERO_NO_BLOCO;
+        int elementosPorBloco = (int) Math.min(quantidade, Math.min(elementosNoOrcamento, Integer.MAX_VALUE - 8));
+        int[] bloco = new int[elementosPorBloco];
+
+        if (elementosPorBloco == quantidade) {
+            for (int i = 0; i < quantidade; i++) {
+                bloco[i] = leitor.proximoInteiro();
+            }
+            algoritmo.ordenar(bloco, 0, quantidade);
+            for (int valor : bloco) {
+                destino.aceitar(valor);
+            }
+            return quantidade;
+        }
+
+        List<Path> temporarios = new ArrayList<>();
+        try {
+            List<Path> rodadas = new ArrayList<>();
+            int restantes = quantidade;
+            while (restantes > 0) {
+                int tamanho = Math.min(restantes, elementosPorBloco);
+                for (int i = 0; i < tamanho; i++) {
+                    bloco[i] = leitor.proximoInteiro();
+                }
+                algoritmo.ordenar(bloco, 0, tamanho);
+                rodadas.add(gravarRodada(bloco, tamanho, temporarios));
+                restantes -= tamanho;
+            }
+            bloco = null;
+
+            // Nas passadas intermediárias um dos buffers é o de gravação da rodada mesclada
+            int maximoVias = (int) Math.max(2, Math.min(orcamentoMemoria / TAMANHO_BUFFER_RODADA - 1, 1024));
+            while (rodadas.size() > maximoVias) {
+                List<Path> proximas = new ArrayList<>();
+                for (int inicio = 0; inicio < rodadas.size(); inicio += maximoVias) {
+                    List<Path> grupo = rodadas.subList(inicio, Math.min(inicio + maximoVias, rodadas.size()));
+                    Path mesclada = criarArquivoTemporario(temporarios);
+                    proximas.add(mesclada);
+                    try (EscritorRodada escritor = new EscritorRodada(mesclada)) {
+                        intercalar(grupo, escritor);
+                    }
+                    apagar(grupo);
+                }
+                rodadas = proximas;
+            }
+
+            return intercalar(rodadas, destino);
+        } finally {
+            apagar(temporarios);
+        }
+    }
+
+    private Path gravarRodada(int[] bloco, int tamanho, List<Path> temporarios) throws IOException {
+        Path arquivo = criarArquivoTemporario(temporarios);
+        try (EscritorRodada escritor = new EscritorRodada(arquivo)) {
+            for (int i = 0; i < tamanho; i++) {
+                escritor.aceitar(bloco[i]);
+            }
+        }
+        return arquivo;
+    }
+
+    private long intercalar(List<Path> rodadas, ConsumidorInteiros destino) throws IOException {
+        LeitorRodada[] leitores = new LeitorRodada[rodadas.size()];
+        try {
+            // Heap mínimo de índices de rodadas, ordenado pelo valor atual de cada uma
+            int[] heap = new int[leitores.length];
+            int tamanhoHeap = 0;
+            for (int i = 0; i < leitores.length; i++) {
+                leitores[i] = new LeitorRodada(rodadas.get(i));
+                if (leitores[i].avancar()) {
+                    heap[tamanhoHeap++] = i;
+                }
+            }
+            for (int i = tamanhoHeap / 2 - 1; i >= 0; i--) {
+                descer(heap, tamanhoHeap, i, leitores);
+            }
+
+            long total = 0;
+            while (tamanhoHeap > 0) {
+                LeitorRodada menor = leitores[heap[0]];
+                destino.aceitar(menor.atual);
+                total++;
+                if (!menor.avancar()) {
+                    heap[0] = heap[--tamanhoHeap];
+                }
+                descer(heap, tamanhoHeap, 0, leitores);
+            }
+            return total;
+        } finally {
+            for (LeitorRodada leitor : leitores) {
+                if (leitor != null) {
+                    leitor.close();
+                }
+            }
+        }
+    }
+
+    private static void descer(int[] heap, int tamanho, int posicao, LeitorRodada[] leitores) {
+        int item = heap[posicao];
+        int valor = leitores[item].atual;
+        while (true) {
+            int filho = 2 * posicao + 1;
+            if (filho >= tamanho) {
+                break;
+            }
+            if (filho + 1 < tamanho && leitores[heap[filho + 1]].atual < leitores[heap[filho]].atual) {
+                filho++;
+            }
+            if (leitores[heap[filho]].atual >= valor) {
+                break;
+            }
+            heap[posicao] = heap[filho];
+            posicao = filho;
+        }
+        heap[posicao] = item;
+    }
+
+    private Path criarArquivoTemporario(List<Path> temporarios) throws IOException {
+        Path arquivo = Files.createTempFile(diretorioTemporario, "ordenacao-", ".bin");
+        temporarios.add(arquivo);
+        return arquivo;
+    }
+
+    private static void apagar(List<Path> arquivos) throws IOException {
+        for (Path arquivo : arquivos) {
+            Files.deleteIfExists(arquivo);
+        }
+    }
+
+    /**
+     * Grava uma rodada ordenada como inteiros binários de 4 bytes
+     */
+    private static class EscritorRodada implements ConsumidorInteiros, Closeable {
+
+        private final FileChannel canal;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(TAMANHO_BUFFER_RODADA);
+        private final IntBuffer inteiros = buffer.asIntBuffer();
+
+        EscritorRodada(Path arquivo) throws IOException {
+            this.canal = FileChannel.open(arquivo, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        @Override
+        public void aceitar(int valor) throws IOException {
+            if (!inteiros.hasRemaining()) {
+                descarregar();
+            }
+            inteiros.put(valor);
+        }
+
+        private void descarregar() throws IOException {
+            buffer.position(0);
+            buffer.limit(inteiros.position() * BYTES_POR_NUMERO);
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+            buffer.clear();
+            inteiros.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                descarregar();
+            } finally {
+                canal.close();
+            }
+        }
+    }
+
+    /**
+     * Lê uma rodada gravada por {@link EscritorRodada}
+     */
+    private static class LeitorRodada implements Closeable {
+
+        private final FileChannel canal;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(TAMANHO_BUFFER_RODADA);
+        private final IntBuffer inteiros = buffer.asIntBuffer();
+        private int atual;
+
+        LeitorRodada(Path arquivo) throws IOException {
+            this.canal = FileChannel.open(arquivo, StandardOpenOption.READ);
+            inteiros.limit(0);
+        }
+
+        boolean avancar() throws IOException {
+            if (!inteiros.hasRemaining() && !recarregar()) {
+                return false;
+            }
+            atual = inteiros.get();
+            return true;
+        }
+
+        private boolean recarregar() throws IOException {
+            buffer.clear();
+            while (buffer.position() % BYTES_POR_NUMERO != 0 || buffer.position() == 0) {
+                if (canal.read(buffer) < 0) {
+                    break;
+                }
+            }
+            inteiros.position(0);
+            inteiros.limit(buffer.position() / BYTES_POR_NUMERO);
+            return inteiros.hasRemaining();
+        }
+
+        @Override
+        public void close() throws IOException {
+            canal.close();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Merge sort paralelo com fork/join. Trechos pequenos são ordenados com
+ * {@link Arrays#sort(int[], int, int)} e as metades são intercaladas também
+ * em paralelo, dividindo a maior metade ao meio e localizando o ponto de
+ * corte da outra por busca binária.
+ */
+public class OrdenacaoParalela implements AlgoritmoOrdenacao {
+
+    private static final int LIMITE_SEQUENCIAL = 1 << 13;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Usa o pool comum do fork/join, com uma thread por núcleo
+     */
+    public OrdenacaoParalela() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Usa um pool próprio com a quantidade de threads informada
+     */
+    public OrdenacaoParalela(int threads) {
+        this(new ForkJoinPool(threads));
+    }
+
+    public OrdenacaoParalela(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public int getParalelismo() {
+        return pool.getParallelism();
+    }
+
+    @Override
+    public void ordenar(int[] dados, int inicio, int fim) {
+        if (fim - inicio <= LIMITE_SEQUENCIAL) {
+            Arrays.sort(dados, inicio, fim);
+            return;
+        }
+        // O auxiliar cobre só o trecho: a posição i dos dados fica em i - inicio
+        int[] auxiliar = new int[fim - inicio];
+        pool.invoke(new Ordenar(dados, auxiliar, inicio, inicio, fim));
+    }
+
+    private static class Ordenar extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] dados;
+        private final int[] auxiliar;
+        private final int base;
+        private final int inicio;
+        private final int fim;
+
+        Ordenar(int[] dados, int[] auxiliar, int base, int inicio, int fim) {
+            this.dados = dados;
+            this.auxiliar = auxiliar;
+            this.base = base;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected void compute() {
+            if (fim - inicio <= LIMITE_SEQUENCIAL) {
+                Arrays.sort(dados, inicio, fim);
+                return;
+            }
+            int meio = (inicio + fim) >>> 1;
+            invokeAll(new Ordenar(dados, auxiliar, base, inicio, meio), new Ordenar(dados, auxiliar, base, meio, fim));
+
+            // Metades já em ordem: não há o que intercalar
+            if (dados[meio - 1] <= dados[meio]) {
+                return;
+            }
+            System.arraycopy(dados, inicio, auxiliar, inicio - base, fim - inicio);
+            new Intercalar(auxiliar, inicio - base, meio - base, meio - base, fim - base, dados, inicio).compute();
+        }
+    }
+
+    private static class Intercalar extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] origem;
+        private final int inicioA;
+        private final int fimA;
+        private final int inicioB;
+        private final int fimB;
+        private final int[] destino;
+        private final int posicao;
+
+        Intercalar(int[] origem, int inicioA, int fimA, int inicioB, int fimB, int[] destino, int posicao) {
+            this.origem = origem;
+            this.inicioA = inicioA;
+            this.fimA = fimA;
+            this.inicioB = inicioB;
+            this.fimB = fimB;
+            this.destino = destino;
+            this.posicao = posicao;
+        }
+
+        @Override
+        protected void compute() {
+            int tamanhoA = fimA - inicioA;
+            int tamanhoB = fimB - inicioB;
+            if (tamanhoA + tamanhoB <= LIMITE_SEQUENCIAL) {
+                intercalarSequencial();
+                return;
+            }
+
+            // Divide a maior sequência ao meio e corta a outra no mesmo valor
+            int corteA;
+            int corteB;
+            if (tamanhoA >= tamanhoB) {
+                corteA = (inicioA + fimA) >>> 1;
+                corteB = limiteInferior(origem, inicioB, fimB, origem[corteA]);
+            } else {
+                corteB = (inicioB + fimB) >>> 1;
+                corteA = limiteInferior(origem, inicioA, fimA, origem[corteB]);
+            }
+            int posicaoDireita = posicao + (corteA - inicioA) + (corteB - inicioB);
+            invokeAll(new Intercalar(origem, inicioA, corteA, inicioB, corteB, destino, posicao),
+                    new Intercalar(origem, corteA, fimA, corteB, fimB, destino, posicaoDireita));
+        }
+
+        private void intercalarSequencial() {
+            int a = inicioA;
+            int b = inicioB;
+            int d = posicao;
+            while (a < fimA && b < fimB) {
+                destino[d++] = origem[b] < origem[a] ? origem[b++] : origem[a++];
+            }
+            System.arraycopy(origem, a, destino, d, fimA - a);
+            System.arraycopy(origem, b, destino, d + (fimA - a), fimB - b);
+        }
+
+        private static int limiteInferior(int[] dados, int inicio, int fim, int valor) {
+            while (inicio < fim) {
+                int meio = (inicio + fim) >>> 1;
+                if (dados[meio] < valor) {
+                    inicio = meio + 1;
+                } else {
+                    fim = meio;
+                }
+            }
+            return inicio;
+        }
+    }
+}
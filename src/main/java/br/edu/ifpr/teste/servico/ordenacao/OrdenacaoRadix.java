@@ -0,0 +1,79 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import java.util.Arrays;
+
+/**
+ * Radix sort LSD para inteiros de 32 bits, um byte por passada. A chave é
+ * a distância de cada valor até o mínimo, sem sinal, de modo que uma faixa
+ * de até 16 bits tem os dois bytes altos constantes em qualquer ponto da
+ * reta. Os quatro histogramas são montados em uma única leitura dos dados e
+ * as passadas em que todos os valores têm o mesmo byte são puladas.
+ */
+public class OrdenacaoRadix implements AlgoritmoOrdenacao {
+
+    private static final int LIMITE_SEQUENCIAL = 64;
+    private static final int BITS = 8;
+    private static final int BALDES = 1 << BITS;
+    private static final int MASCARA = BALDES - 1;
+    private static final int PASSADAS = Integer.SIZE / BITS;
+
+    @Override
+    public void ordenar(int[] dados, int inicio, int fim) {
+        int tamanho = fim - inicio;
+        if (tamanho <= LIMITE_SEQUENCIAL) {
+            Arrays.sort(dados, inicio, fim);
+            return;
+        }
+
+        int minimo = dados[inicio];
+        for (int i = inicio + 1; i < fim; i++) {
+            minimo = Math.min(minimo, dados[i]);
+        }
+
+        // valor - minimo cabe em 32 bits sem sinal e preserva a ordem
+        int[][] contagens = new int[PASSADAS][BALDES];
+        for (int i = inicio; i < fim; i++) {
+            int chave = dados[i] - minimo;
+            for (int passada = 0; passada < PASSADAS; passada++) {
+                contagens[passada][(chave >>> (passada * BITS)) & MASCARA]++;
+            }
+        }
+
+        int[] origem = dados;
+        int inicioOrigem = inicio;
+        int[] destino = new int[tamanho];
+        int inicioDestino = 0;
+        int[] auxiliar = destino;
+
+        for (int passada = 0; passada < PASSADAS; passada++) {
+            int[] contagem = contagens[passada];
+            int deslocamento = passada * BITS;
+            int primeiro = ((origem[inicioOrigem] - minimo) >>> deslocamento) & MASCARA;
+            if (contagem[primeiro] == tamanho) {
+                continue;
+            }
+
+            int[] posicoes = new int[BALDES];
+            int soma = inicioDestino;
+            for (int balde = 0; balde < BALDES; balde++) {
+                posicoes[balde] = soma;
+                soma += contagem[balde];
+            }
+            for (int i = inicioOrigem; i < inicioOrigem + tamanho; i++) {
+                int valor = origem[i];
+                destino[posicoes[((valor - minimo) >>> deslocamento) & MASCARA]++] = valor;
+            }
+
+            int[] trocaArray = origem;
+            int trocaInicio = inicioOrigem;
+            origem = destino;
+            inicioOrigem = inicioDestino;
+            destino = trocaArray;
+            inicioDestino = trocaInicio;
+        }
+
+        if (origem == auxiliar) {
+            System.arraycopy(auxiliar, 0, dados, inicio, tamanho);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import java.util.Arrays;
+
+/**
+ * Ordenação em uma única thread com o quicksort de pivô duplo do JDK
+ */
+public class OrdenacaoSequencial implements AlgoritmoOrdenacao {
+
+    @Override
+    public void ordenar(int[] dados, int inicio, int fim) {
+        Arrays.sort(dados, inicio, fim);
+    }
+}
@@ -0,0 +1,132 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Estatísticas de ordem (k-ésimo menor, percentis e mediana) sem ordenar o
+ * vetor inteiro. Usa introselect: quickselect com pivô pela mediana de três
+ * e partição em três vias, caindo para a ordenação do trecho restante se a
+ * recursão ficar profunda demais, o que limita o pior caso a O(n log n).
+ *
+ * Os métodos reorganizam o trecho informado do array.
+ */
+public final class SelecaoOrdem {
+
+    private static final int LIMITE_INSERCAO = 16;
+
+    private SelecaoOrdem() {
+    }
+
+    /**
+     * Devolve o valor que ocuparia {@code posicao} se o trecho estivesse
+     * ordenado. Ao final, os elementos antes de {@code posicao} são menores
+     * ou iguais a ele e os depois, maiores ou iguais.
+     * @throws IndexOutOfBoundsException se a posição estiver fora de [inicio, fim)
+     */
+    public static int selecionar(int[] dados, int inicio, int fim, int posicao) {
+        if (posicao < inicio || posicao >= fim) {
+            throw new IndexOutOfBoundsException("Posição " + posicao + " fora de [" + inicio + ", " + fim + ")");
+        }
+        int esquerda = inicio;
+        int direita = fim - 1;
+        int profundidade = 2 * (32 - Integer.numberOfLeadingZeros(fim - inicio));
+
+        while (direita - esquerda > LIMITE_INSERCAO) {
+            if (profundidade-- == 0) {
+                Arrays.sort(dados, esquerda, direita + 1);
+                return dados[posicao];
+            }
+            int pivo = medianaDeTres(dados[esquerda], dados[(esquerda + direita) >>> 1], dados[direita]);
+
+            // Partição em três vias: [< pivô | == pivô | > pivô], robusta a repetições
+            int menores = esquerda;
+            int i = esquerda;
+            int maiores = direita;
+            while (i <= maiores) {
+                int valor = dados[i];
+                if (valor < pivo) {
+                    trocar(dados, menores++, i++);
+                } else if (valor > pivo) {
+                    trocar(dados, i, maiores--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (posicao < menores) {
+                direita = menores - 1;
+            } else if (posicao > maiores) {
+                esquerda = maiores + 1;
+            } else {
+                return pivo;
+            }
+        }
+
+        ordenarPorInsercao(dados, esquerda, direita);
+        return dados[posicao];
+    }
+
+    /**
+     * Percentil pelo método do posto mais próximo: o menor valor com pelo
+     * menos {@code percentil}% dos elementos menores ou iguais a ele
+     * @throws NoSuchElementException se o trecho estiver vazio
+     */
+    public static int percentil(int[] dados, int inicio, int fim, double percentil) {
+        if (percentil < 0 || percentil > 100) {
+            throw new IllegalArgumentException("O percentil deve estar entre 0 e 100");
+        }
+        exigirElementos(inicio, fim);
+        int quantidade = fim - inicio;
+        // Multiplica antes de dividir: percentil / 100 acumula erro e passa do inteiro (7% de 100 daria 8)
+        int posto = (int) Math.ceil(percentil * quantidade / 100);
+        return selecionar(dados, inicio, fim, inicio + Math.max(posto, 1) - 1);
+    }
+
+    /**
+     * Mediana do trecho; com quantidade par, a média dos dois valores centrais
+     * @throws NoSuchElementException se o trecho estiver vazio
+     */
+    public static double mediana(int[] dados, int inicio, int fim) {
+        exigirElementos(inicio, fim);
+        int meio = inicio + (fim - inicio - 1) / 2;
+        int inferior = selecionar(dados, inicio, fim, meio);
+        if ((fim - inicio) % 2 == 1) {
+            return inferior;
+        }
+        // Depois da seleção, o central superior é o menor elemento à direita do inferior
+        int superior = dados[meio + 1];
+        for (int i = meio + 2; i < fim; i++) {
+            superior = Math.min(superior, dados[i]);
+        }
+        return ((long) inferior + superior) / 2.0;
+    }
+
+    private static void exigirElementos(int inicio, int fim) {
+        if (fim <= inicio) {
+            throw new NoSuchElementException("Não há elementos para selecionar");
+        }
+    }
+
+    private static int medianaDeTres(int a, int b, int c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    private static void ordenarPorInsercao(int[] dados, int esquerda, int direita) {
+        for (int i = esquerda + 1; i <= direita; i++) {
+            int valor = dados[i];
+            int j = i - 1;
+            while (j >= esquerda && dados[j] > valor) {
+                dados[j + 1] = dados[j];
+                j--;
+            }
+            dados[j + 1] = valor;
+        }
+    }
+
+    private static void trocar(int[] dados, int i, int j) {
+        int temporario = dados[i];
+        dados[i] = dados[j];
+        dados[j] = temporario;
+    }
+}
@@ -0,0 +1,104 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import java.util.Arrays;
+
+/**
+ * Mantém os K menores (ou maiores) valores vistos, com um heap primitivo de
+ * tamanho K: cada valor custa O(log K) no pior caso e O(1) quando não
+ * entra no resultado, e a memória não depende da quantidade de valores.
+ *
+ * Para os maiores, os valores são guardados complementados ({@code ~v}),
+ * que inverte a ordem sem estouro; assim os dois casos usam o mesmo heap.
+ */
+public class SelecaoTopK implements ConsumidorInteiros {
+
+    private final int k;
+    private final boolean maiores;
+    // Heap de máximo: a raiz é o pior valor ainda mantido
+    private final int[] heap;
+    private int tamanho;
+
+    private SelecaoTopK(int k, boolean maiores) {
+        if (k < 0) {
+            throw new IllegalArgumentException("K não pode ser negativo");
+        }
+        this.k = k;
+        this.maiores = maiores;
+        this.heap = new int[k];
+    }
+
+    public static SelecaoTopK menores(int k) {
+        return new SelecaoTopK(k, false);
+    }
+
+    public static SelecaoTopK maiores(int k) {
+        return new SelecaoTopK(k, true);
+    }
+
+    @Override
+    public void aceitar(int valor) {
+        int chave = maiores ? ~valor : valor;
+        if (tamanho < k) {
+            heap[tamanho] = chave;
+            subir(tamanho++);
+        } else if (k > 0 && chave < heap[0]) {
+            heap[0] = chave;
+            descer(0);
+        }
+    }
+
+    public void aceitarTodos(int[] dados, int inicio, int fim) {
+        for (int i = inicio; i < fim; i++) {
+            aceitar(dados[i]);
+        }
+    }
+
+    /**
+     * Os valores mantidos: em ordem crescente para os menores e decrescente
+     * para os maiores
+     */
+    public VetorInteiros resultado() {
+        int[] valores = Arrays.copyOf(heap, tamanho);
+        Arrays.sort(valores);
+        if (maiores) {
+            for (int i = 0; i < valores.length; i++) {
+                valores[i] = ~valores[i];
+            }
+        }
+        return VetorInteiros.de(valores);
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    private void subir(int posicao) {
+        int valor = heap[posicao];
+        while (posicao > 0) {
+            int pai = (posicao - 1) >>> 1;
+            if (heap[pai] >= valor) {
+                break;
+            }
+            heap[posicao] = heap[pai];
+            posicao = pai;
+        }
+        heap[posicao] = valor;
+    }
+
+    private void descer(int posicao) {
+        int valor = heap[posicao];
+        int metade = tamanho >>> 1;
+        while (posicao < metade) {
+            int filho = 2 * posicao + 1;
+            if (filho + 1 < tamanho && heap[filho + 1] > heap[filho]) {
+                filho++;
+            }
+            if (heap[filho] <= valor) {
+                break;
+            }
+            heap[posicao] = heap[filho];
+            posicao = filho;
+        }
+        heap[posicao] = valor;
+    }
+}
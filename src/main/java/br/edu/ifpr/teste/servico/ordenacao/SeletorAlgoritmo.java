@@ -0,0 +1,87 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+/**
+ * Escolhe o algoritmo de ordenação a partir de uma leitura dos dados,
+ * olhando o tamanho, a faixa de valores e o quanto já estão em ordem:
+ * <ul>
+ * <li>já ordenados: nada a fazer;</li>
+ * <li>pequenos ou quase ordenados: {@link OrdenacaoSequencial}, que aproveita sequências já em ordem;</li>
+ * <li>grandes com máximo - mínimo abaixo de 2<sup>16</sup>: {@link OrdenacaoRadix}, em no máximo
+ * duas passadas, pois as chaves do radix partem do mínimo;</li>
+ * <li>grandes com mais de um núcleo disponível: {@link OrdenacaoParalela};</li>
+ * <li>demais casos: {@link OrdenacaoRadix}.</li>
+ * </ul>
+ */
+public class SeletorAlgoritmo implements AlgoritmoOrdenacao {
+
+    private static final int LIMITE_PEQUENO = 1 << 12;
+    private static final int LIMITE_RADIX = 1 << 16;
+    private static final int LIMITE_PARALELO = 1 << 18;
+    // Quase ordenado: no máximo uma descida a cada 64 elementos
+    private static final int FATOR_QUASE_ORDENADO = 64;
+
+    private final AlgoritmoOrdenacao sequencial;
+    private final AlgoritmoOrdenacao radix;
+    private final OrdenacaoParalela paralela;
+
+    public SeletorAlgoritmo() {
+        this(new OrdenacaoParalela());
+    }
+
+    public SeletorAlgoritmo(OrdenacaoParalela paralela) {
+        this.sequencial = new OrdenacaoSequencial();
+        this.radix = new OrdenacaoRadix();
+        this.paralela = paralela;
+    }
+
+    @Override
+    public void ordenar(int[] dados, int inicio, int fim) {
+        escolher(dados, inicio, fim).ordenar(dados, inicio, fim);
+    }
+
+    /**
+     * Devolve o algoritmo que seria usado para o trecho informado
+     */
+    public AlgoritmoOrdenacao escolher(int[] dados, int inicio, int fim) {
+        int tamanho = fim - inicio;
+        if (tamanho < LIMITE_PEQUENO) {
+            return sequencial;
+        }
+
+        int minimo = dados[inicio];
+        int maximo = dados[inicio];
+        int descidas = 0;
+        for (int i = inicio + 1; i < fim; i++) {
+            int valor = dados[i];
+            if (valor < dados[i - 1]) {
+                descidas++;
+            }
+            if (valor < minimo) {
+                minimo = valor;
+            } else if (valor > maximo) {
+                maximo = valor;
+            }
+        }
+
+        if (descidas == 0) {
+            return JA_ORDENADO;
+        }
+        if (descidas <= tamanho / FATOR_QUASE_ORDENADO) {
+            return sequencial;
+        }
+        long faixa = (long) maximo - minimo;
+        if (tamanho >= LIMITE_RADIX && faixa < (1 << 16)) {
+            return radix;
+        }
+        if (tamanho >= LIMITE_PARALELO && paralela.getParalelismo() > 1) {
+            return paralela;
+        }
+        return tamanho >= LIMITE_RADIX ? radix : sequencial;
+    }
+
+    private static final AlgoritmoOrdenacao JA_ORDENADO = new AlgoritmoOrdenacao() {
+        @Override
+        public void ordenar(int[] dados, int inicio, int fim) {
+        }
+    };
+}
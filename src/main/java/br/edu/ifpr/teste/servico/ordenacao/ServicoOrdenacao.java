@@ -1,43 +1,285 @@
 package br.edu.ifpr.teste.servico.ordenacao;
 
-import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Collections;
+
+import br.edu.ifpr.teste.metricas.Contador;
+import br.edu.ifpr.teste.metricas.Histograma;
+import br.edu.ifpr.teste.metricas.Metricas;
 
 public class ServicoOrdenacao {
 
+    private static final Histograma LEITURA = Metricas.histograma("ordenacao.leitura");
+    private static final Histograma ORDENACAO = Metricas.histograma("ordenacao.ordenacao");
+    private static final Histograma FORMATACAO = Metricas.histograma("ordenacao.formatacao");
+    private static final Histograma EXTERNA = Metricas.histograma("ordenacao.externa");
+    private static final Contador ELEMENTOS = Metricas.contador("ordenacao.elementos");
+
+    private final AlgoritmoOrdenacao algoritmo;
+
+    /**
+     * Cria o serviço escolhendo o algoritmo automaticamente para cada entrada
+     */
+    public ServicoOrdenacao() {
+        this(new SeletorAlgoritmo());
+    }
+
+    public ServicoOrdenacao(AlgoritmoOrdenacao algoritmo) {
+        this.algoritmo = algoritmo;
+    }
+
     public ArrayList<Integer> obterDadosArquivo(InputStream inputStream) throws Exception {
+        return obterVetorArquivo(inputStream).paraLista();
+    }
 
-        ArrayList<Integer> lista = new ArrayList<>();
+    public ArrayList<Integer> ordenar(ArrayList<Integer> original) {
+        return ordenar(VetorInteiros.de(original)).paraLista();
+    }
 
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-            String primeiraLinha = reader.readLine();
-            int quantidadeDeNumeros = Integer.parseInt(primeiraLinha);
+    public String prepararParaImpressao(ArrayList<Integer> ordenado) {
+        return prepararParaImpressao(VetorInteiros.de(ordenado));
+    }
 
-            for (int i = 0; i < quantidadeDeNumeros; i++) {
-                String linha = reader.readLine();
-                int numero = Integer.parseInt(linha);
-                lista.add(numero);
-            }
+    /**
+     * Lê o arquivo (quantidade na primeira linha e um número por linha)
+     * diretamente para um vetor de inteiros primitivos
+     */
+    public VetorInteiros obterVetorArquivo(InputStream inputStream) throws Exception {
+        long inicio = Metricas.inicio();
+        try (LeitorNumeros leitor = new LeitorNumeros(inputStream)) {
+            return leitor.lerVetor();
+        } finally {
+            LEITURA.registrarDesde(inicio);
         }
-        return lista;
     }
 
-    public ArrayList<Integer> ordenar(ArrayList<Integer> original) {
-        ArrayList<Integer> ordenado = new ArrayList<>(original);
-        Collections.sort(ordenado);
+    /**
+     * Lê o arquivo mapeando-o em memória, sem passar por um {@link InputStream}
+     */
+    public VetorInteiros obterVetorArquivo(Path arquivo) throws Exception {
+        long inicio = Metricas.inicio();
+        try (LeitorNumeros leitor = LeitorNumeros.de(arquivo)) {
+            return leitor.lerVetor();
+        } finally {
+            LEITURA.registrarDesde(inicio);
+        }
+    }
+
+    /**
+     * Devolve uma cópia ordenada do vetor, sem alterar o original
+     */
+    public VetorInteiros ordenar(VetorInteiros original) {
+        long inicio = Metricas.inicio();
+        VetorInteiros ordenado = original.copia();
+        ordenado.ordenar(algoritmo);
+        ORDENACAO.registrarDesde(inicio);
+        ELEMENTOS.adicionar(ordenado.tamanho());
 
         return ordenado;
     }
 
-    public String prepararParaImpressao(ArrayList<Integer> ordenado) {
-        String saida = ordenado.get(0).toString();
-        for (int i = 1; i < ordenado.size(); i++) {
-            saida += ", " + ordenado.get(i);
+    /**
+     * Formata o vetor como {@code "a, b, c"}; um vetor vazio resulta em {@code ""}
+     */
+    public String prepararParaImpressao(VetorInteiros ordenado) {
+        long inicio = Metricas.inicio();
+        String texto = FormatadorSaida.formatar(ordenado.array(), 0, ordenado.tamanho());
+        FORMATACAO.registrarDesde(inicio);
+        return texto;
+    }
+
+    /**
+     * Escreve o vetor como {@code "a, b, c"} direto no destino, sem montar a
+     * {@link String} inteira em memória. O destino não é fechado.
+     */
+    public void imprimir(VetorInteiros ordenado, Writer destino) throws IOException {
+        long inicio = Metricas.inicio();
+        FormatadorSaida formatador = new FormatadorSaida(destino);
+        int[] dados = ordenado.array();
+        for (int i = 0; i < ordenado.tamanho(); i++) {
+            formatador.aceitar(dados[i]);
         }
+        formatador.flush();
+        FORMATACAO.registrarDesde(inicio);
+    }
+
+    /**
+     * Escreve o vetor como {@code "a, b, c"} em ASCII direto no destino. O destino não é fechado.
+     */
+    public void imprimir(VetorInteiros ordenado, OutputStream destino) throws IOException {
+        long inicio = Metricas.inicio();
+        FormatadorSaida formatador = new FormatadorSaida(destino);
+        int[] dados = ordenado.array();
+        for (int i = 0; i < ordenado.tamanho(); i++) {
+            formatador.aceitar(dados[i]);
+        }
+        formatador.flush();
+        FORMATACAO.registrarDesde(inicio);
+    }
 
-        return saida;
+    /**
+     * Cria uma coleção que se mantém ordenada à medida que recebe lotes,
+     * ordenando cada lote com o algoritmo deste serviço; para quem chamaria
+     * {@link #ordenar(VetorInteiros)} de novo a cada chegada de números
+     */
+    public ColecaoOrdenada criarColecaoOrdenada() {
+        return new ColecaoOrdenada(algoritmo);
+    }
+
+    /**
+     * Cria um agendador para ordenar muitos arquivos em paralelo com o
+     * algoritmo deste serviço, limitando a memória ocupada por todos juntos;
+     * feche-o para esperar as tarefas e liberar as threads
+     * @param orcamentoMemoria bytes que as tarefas em execução podem ocupar juntas
+     * @param trabalhadores quantidade máxima de tarefas executando ao mesmo tempo
+     */
+    public AgendadorOrdenacao criarAgendador(long orcamentoMemoria, int trabalhadores) {
+        return new AgendadorOrdenacao(orcamentoMemoria, trabalhadores, algoritmo);
+    }
+
+    /**
+     * Lê a entrada no formato de {@link #obterDadosArquivo(InputStream)} e
+     * devolve os {@code k} menores números em ordem crescente, sem guardar os demais
+     */
+    public VetorInteiros menores(InputStream entrada, int k) throws Exception {
+        return selecionar(entrada, SelecaoTopK.menores(k));
+    }
+
+    /**
+     * Como {@link #menores(InputStream, int)}, com os {@code k} maiores em ordem decrescente
+     */
+    public VetorInteiros maiores(InputStream entrada, int k) throws Exception {
+        return selecionar(entrada, SelecaoTopK.maiores(k));
+    }
+
+    private static VetorInteiros selecionar(InputStream entrada, SelecaoTopK selecao) throws IOException {
+        try (LeitorNumeros leitor = new LeitorNumeros(entrada)) {
+            lerTodos(leitor, selecao);
+        }
+        return selecao.resultado();
+    }
+
+    /**
+     * Percentil pelo posto mais próximo (0 a 100), em tempo linear e sem alterar o vetor
+     * @throws java.util.NoSuchElementException se o vetor estiver vazio
+     */
+    public int percentil(VetorInteiros vetor, double percentil) {
+        int[] dados = vetor.paraArray();
+        return SelecaoOrdem.percentil(dados, 0, dados.length, percentil);
+    }
+
+    /**
+     * Mediana em tempo linear, sem alterar o vetor; com quantidade par, a média dos centrais
+     * @throws java.util.NoSuchElementException se o vetor estiver vazio
+     */
+    public double mediana(VetorInteiros vetor) {
+        int[] dados = vetor.paraArray();
+        return SelecaoOrdem.mediana(dados, 0, dados.length);
+    }
+
+    /**
+     * Lê a entrada em uma única passada e devolve um esboço com quantis
+     * aproximados, usando memória proporcional a {@code k} e não à entrada
+     */
+    public EsbocoQuantis esbocarQuantis(InputStream entrada, int k) throws Exception {
+        EsbocoQuantis esboco = new EsbocoQuantis(k);
+        try (LeitorNumeros leitor = new LeitorNumeros(entrada)) {
+            lerTodos(leitor, esboco);
+        }
+        return esboco;
+    }
+
+    /**
+     * Devolve os valores distintos do vetor em ordem crescente, usando um
+     * {@link MapaBitsCompactado} em vez de uma ordenação por comparação
+     */
+    public VetorInteiros ordenarDistintos(VetorInteiros vetor) {
+        return MapaBitsCompactado.de(vetor.array(), 0, vetor.tamanho()).paraVetor();
+    }
+
+    /**
+     * Lê a entrada no formato de {@link #obterDadosArquivo(InputStream)} direto
+     * para um mapa de bits compactado, sem montar o vetor; repetições contam
+     * uma vez. Os mapas de duas entradas podem ser combinados com
+     * {@link MapaBitsCompactado#uniao}, {@link MapaBitsCompactado#intersecao}
+     * e {@link MapaBitsCompactado#diferenca}.
+     */
+    public MapaBitsCompactado obterMapaArquivo(InputStream entrada) throws Exception {
+        MapaBitsCompactado mapa = new MapaBitsCompactado();
+        try (LeitorNumeros leitor = new LeitorNumeros(entrada)) {
+            lerTodos(leitor, mapa);
+        }
+        return mapa;
+    }
+
+    private static void lerTodos(LeitorNumeros leitor, ConsumidorInteiros destino) throws IOException {
+        int quantidade = leitor.lerQuantidade();
+        for (int i = 0; i < quantidade; i++) {
+            destino.aceitar(leitor.proximoInteiro());
+        }
+    }
+
+    /**
+     * Ordena a entrada sem carregá-la inteira na memória, gravando a saída no
+     * mesmo formato lido por {@link #obterDadosArquivo(InputStream)}
+     * @param orcamentoMemoria quantidade máxima de bytes mantida em memória pela ordenação
+     */
+    public void ordenarForaDaMemoria(InputStream entrada, OutputStream saida, long orcamentoMemoria) throws Exception {
+        long inicio = Metricas.inicio();
+        new OrdenacaoExterna(orcamentoMemoria, algoritmo).ordenar(entrada, saida);
+        EXTERNA.registrarDesde(inicio);
+    }
+
+    /**
+     * Ordena a entrada em memória e grava o resultado no formato binário de
+     * {@link EscritorOrdenadoBinario}, bem menor que o texto e com índice
+     * para consultas por intervalo em {@link LeitorOrdenadoBinario}. Se a
+     * entrada for inválida, nenhum arquivo fica no destino.
+     * @return a quantidade de números gravados
+     */
+    public long gravarBinario(InputStream entrada, Path destino) throws Exception {
+        VetorInteiros ordenado = ordenar(obterVetorArquivo(entrada));
+        try (EscritorOrdenadoBinario escritor = new EscritorOrdenadoBinario(destino)) {
+            int[] dados = ordenado.array();
+            for (int i = 0; i < ordenado.tamanho(); i++) {
+                escritor.aceitar(dados[i]);
+            }
+            escritor.concluir();
+            return escritor.getQuantidade();
+        }
+    }
+
+    /**
+     * Como {@link #gravarBinario(InputStream, Path)}, ordenando fora da memória
+     * @param orcamentoMemoria quantidade máxima de bytes mantida em memória pela ordenação
+     */
+    public long gravarBinario(InputStream entrada, Path destino, long orcamentoMemoria) throws Exception {
+        long inicio = Metricas.inicio();
+        try (LeitorNumeros leitor = new LeitorNumeros(entrada);
+                EscritorOrdenadoBinario escritor = new EscritorOrdenadoBinario(destino)) {
+            long quantidade = new OrdenacaoExterna(orcamentoMemoria, algoritmo).ordenar(leitor, escritor);
+            escritor.concluir();
+            EXTERNA.registrarDesde(inicio);
+            return quantidade;
+        }
+    }
+
+    /**
+     * Converte um arquivo binário ordenado de volta para o formato texto
+     * (quantidade e um número por linha)
+     */
+    public void converterBinarioParaTexto(Path origem, OutputStream saida) throws Exception {
+        try (LeitorOrdenadoBinario leitor = LeitorOrdenadoBinario.abrir(origem);
+                EscritorNumeros escritor = new EscritorNumeros(saida)) {
+            if (leitor.getQuantidade() > Integer.MAX_VALUE) {
+                throw new IOException("Valores demais para o formato texto: " + leitor.getQuantidade());
+            }
+            escritor.escreverQuantidade((int) leitor.getQuantidade());
+            leitor.lerTudo(escritor);
+        }
     }
-}
\ No newline at end of file
+}
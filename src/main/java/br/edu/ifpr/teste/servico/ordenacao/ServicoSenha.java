@@ -1,14 +1,85 @@
 package br.edu.ifpr.teste.servico.ordenacao;
 
+import java.util.Locale;
+
 import br.edu.ifpr.teste.excecao.SenhaException;
-import br.edu.ifpr.teste.utils.MensagemUtil;
+import br.edu.ifpr.teste.metricas.Contador;
+import br.edu.ifpr.teste.metricas.Histograma;
+import br.edu.ifpr.teste.metricas.Metricas;
+import br.edu.ifpr.teste.servico.senha.ListaBloqueioSenha;
+import br.edu.ifpr.teste.servico.senha.PoliticaSenha;
+import br.edu.ifpr.teste.servico.senha.RegraSenha;
+import br.edu.ifpr.teste.servico.senha.ResultadoValidacaoSenha;
 
 public class ServicoSenha {
 
+    private static final Histograma AVALIACAO = Metricas.histograma("senha.avaliacao");
+    private static final Contador[] REJEICOES = new Contador[RegraSenha.values().length];
+
+    static {
+        for (RegraSenha regra : RegraSenha.values()) {
+            REJEICOES[regra.ordinal()] = Metricas.contador("senha.rejeicoes." + regra.name().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private final PoliticaSenha politica;
+    private final boolean capturarPilha;
+    private final ListaBloqueioSenha listaBloqueio;
+
+    public ServicoSenha() {
+        this(PoliticaSenha.padrao());
+    }
+
+    public ServicoSenha(PoliticaSenha politica) {
+        this(politica, true);
+    }
+
+    /**
+     * @param capturarPilha false lança SenhaException sem pilha de chamadas,
+     * para quem valida muitas senhas e só usa a mensagem
+     */
+    public ServicoSenha(PoliticaSenha politica, boolean capturarPilha) {
+        this(politica, capturarPilha, null);
+    }
+
+    /**
+     * @param listaBloqueio senhas vazadas a rejeitar, ou null para não consultar
+     */
+    public ServicoSenha(PoliticaSenha politica, boolean capturarPilha, ListaBloqueioSenha listaBloqueio) {
+        this.politica = politica;
+        this.capturarPilha = capturarPilha;
+        this.listaBloqueio = listaBloqueio;
+    }
+
+    /**
+     * Lança SenhaException com a mensagem da primeira regra violada
+     */
     public void validar(String senha) throws SenhaException {
-        // TODO Auto-generated method stub
-        if(!senha.matches(".*[!@#$%^&*].*"))
-            throw new SenhaException(MensagemUtil.ERRO_SENHA_SEM_CARACTERE_ESPECIAL);
+        ResultadoValidacaoSenha resultado = avaliar(senha);
+        if (!resultado.isValida())
+            throw new SenhaException(resultado.getPrimeiraViolacao().getMensagem(), capturarPilha);
+    }
+
+    /**
+     * Avalia a senha sem lançar exceção, devolvendo todas as violações e a força
+     */
+    public ResultadoValidacaoSenha avaliar(String senha) {
+        long inicio = Metricas.inicio();
+        ResultadoValidacaoSenha resultado = politica.avaliar(senha);
+        if (listaBloqueio != null && listaBloqueio.contem(senha)) {
+            resultado = resultado.comViolacao(RegraSenha.LISTA_BLOQUEIO);
+        }
+        if (Metricas.ATIVAS) {
+            AVALIACAO.registrarDesde(inicio);
+            for (int violacoes = resultado.getCodigoViolacoes(); violacoes != 0; violacoes &= violacoes - 1) {
+                REJEICOES[Integer.numberOfTrailingZeros(violacoes)].incrementar();
+            }
+        }
+        return resultado;
+    }
+
+    public PoliticaSenha getPolitica() {
+        return politica;
     }
 
-}
\ No newline at end of file
+}
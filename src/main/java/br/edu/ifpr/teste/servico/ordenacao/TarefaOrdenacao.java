@@ -0,0 +1,179 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Acompanhamento de um arquivo submetido ao {@link AgendadorOrdenacao}:
+ * estado, memória reservada, progresso e vazão. Os valores podem ser lidos
+ * de qualquer thread enquanto a tarefa executa.
+ */
+public class TarefaOrdenacao {
+
+    public enum Estado {
+        NA_FILA,
+        AGUARDANDO_MEMORIA,
+        EXECUTANDO,
+        CONCLUIDA,
+        FALHOU
+    }
+
+    // Publica o progresso a cada tantos números, e não a cada um
+    private static final int INTERVALO_PROGRESSO = 4096;
+
+    private final Path entrada;
+    private final Path saida;
+    private final CompletableFuture<Long> resultado = new CompletableFuture<>();
+
+    private volatile Estado estado = Estado.NA_FILA;
+    private volatile int quantidade = -1;
+    private volatile long memoriaReservada;
+    private volatile boolean externa;
+    private volatile long processados;
+    private volatile long inicioNanos;
+    private volatile long fimNanos;
+
+    TarefaOrdenacao(Path entrada, Path saida) {
+        this.entrada = entrada;
+        this.saida = saida;
+    }
+
+    public Path getEntrada() {
+        return entrada;
+    }
+
+    public Path getSaida() {
+        return saida;
+    }
+
+    public Estado getEstado() {
+        return estado;
+    }
+
+    /**
+     * Quantidade informada no cabeçalho da entrada, ou -1 se ainda não foi lida
+     */
+    public int getQuantidade() {
+        return quantidade;
+    }
+
+    /**
+     * Bytes reservados do orçamento do agendador enquanto a tarefa executa
+     */
+    public long getMemoriaReservada() {
+        return memoriaReservada;
+    }
+
+    /**
+     * Se a entrada não coube no orçamento e foi ordenada fora da memória
+     */
+    public boolean isExterna() {
+        return externa;
+    }
+
+    /**
+     * Quantidade de números já gravados na saída
+     */
+    public long getProcessados() {
+        return processados;
+    }
+
+    /**
+     * Fração da saída já gravada, de 0 a 1
+     */
+    public double getProgresso() {
+        int total = quantidade;
+        if (estado == Estado.CONCLUIDA) {
+            return 1;
+        }
+        return total <= 0 ? 0 : (double) processados / total;
+    }
+
+    /**
+     * Números gravados por segundo desde o início da execução; 0 antes de começar
+     */
+    public double getVazao() {
+        long inicio = inicioNanos;
+        if (inicio == 0) {
+            return 0;
+        }
+        long fim = fimNanos != 0 ? fimNanos : System.nanoTime();
+        long duracao = Math.max(fim - inicio, 1);
+        return processados * 1e9 / duracao;
+    }
+
+    /**
+     * Tempo de execução em nanossegundos, sem contar a espera na fila e por memória
+     */
+    public long getDuracaoNanos() {
+        long inicio = inicioNanos;
+        if (inicio == 0) {
+            return 0;
+        }
+        return (fimNanos != 0 ? fimNanos : System.nanoTime()) - inicio;
+    }
+
+    public boolean isTerminada() {
+        return resultado.isDone();
+    }
+
+    /**
+     * Espera a tarefa terminar
+     * @return a quantidade de números gravados
+     * @throws ExecutionException com a causa da falha, se a tarefa falhou
+     */
+    public long aguardar() throws InterruptedException, ExecutionException {
+        return resultado.get();
+    }
+
+    void cabecalhoLido(int quantidade, long memoriaReservada, boolean externa) {
+        this.quantidade = quantidade;
+        this.memoriaReservada = memoriaReservada;
+        this.externa = externa;
+        this.estado = Estado.AGUARDANDO_MEMORIA;
+    }
+
+    void iniciar() {
+        inicioNanos = System.nanoTime();
+        estado = Estado.EXECUTANDO;
+    }
+
+    void concluir(long gravados) {
+        processados = gravados;
+        fimNanos = System.nanoTime();
+        estado = Estado.CONCLUIDA;
+        resultado.complete(gravados);
+    }
+
+    void falhar(Throwable erro) {
+        if (inicioNanos != 0) {
+            fimNanos = System.nanoTime();
+        }
+        estado = Estado.FALHOU;
+        resultado.completeExceptionally(erro);
+    }
+
+    /**
+     * Repassa os números ao destino contando-os para o progresso
+     */
+    ConsumidorInteiros contando(ConsumidorInteiros destino) {
+        return new ConsumidorInteiros() {
+            private long contados;
+
+            @Override
+            public void aceitar(int valor) throws IOException {
+                destino.aceitar(valor);
+                if (++contados % INTERVALO_PROGRESSO == 0) {
+                    processados = contados;
+                }
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return entrada + " -> " + saida + " [" + estado + ", " + processados + "/" + Math.max(quantidade, 0) + "]";
+    }
+}
@@ -0,0 +1,130 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Vetor dinâmico de inteiros primitivos, usado pelo {@link ServicoOrdenacao}
+ * para ler, ordenar e imprimir números sem criar um {@link Integer} por valor.
+ */
+public class VetorInteiros {
+
+    private static final int CAPACIDADE_INICIAL = 16;
+
+    private int[] dados;
+    private int tamanho;
+
+    public VetorInteiros() {
+        this(CAPACIDADE_INICIAL);
+    }
+
+    /**
+     * Cria um vetor vazio com espaço reservado para a quantidade informada
+     * @param capacidade quantidade de posições a reservar
+     * @throws IllegalArgumentException se a capacidade for negativa
+     */
+    public VetorInteiros(int capacidade) {
+        if (capacidade < 0) {
+            throw new IllegalArgumentException("A capacidade não pode ser negativa");
+        }
+        this.dados = new int[capacidade];
+    }
+
+    private VetorInteiros(int[] dados, int tamanho) {
+        this.dados = dados;
+        this.tamanho = tamanho;
+    }
+
+    /**
+     * Cria um vetor que usa diretamente o array informado, sem cópia
+     */
+    public static VetorInteiros de(int... valores) {
+        return new VetorInteiros(valores, valores.length);
+    }
+
+    /**
+     * Converte uma lista de {@link Integer} para o vetor primitivo
+     */
+    public static VetorInteiros de(List<Integer> lista) {
+        int[] valores = new int[lista.size()];
+        for (int i = 0; i < valores.length; i++) {
+            valores[i] = lista.get(i);
+        }
+        return new VetorInteiros(valores, valores.length);
+    }
+
+    public void adicionar(int valor) {
+        if (tamanho == dados.length) {
+            garantirCapacidade(tamanho + 1);
+        }
+        dados[tamanho++] = valor;
+    }
+
+    public int obter(int indice) {
+        if (indice < 0 || indice >= tamanho) {
+            throw new IndexOutOfBoundsException("Índice " + indice + " fora do intervalo [0, " + tamanho + ")");
+        }
+        return dados[indice];
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+
+    public boolean vazio() {
+        return tamanho == 0;
+    }
+
+    /**
+     * Garante espaço para ao menos a quantidade informada de elementos,
+     * crescendo em 50% para amortizar as cópias
+     */
+    public void garantirCapacidade(int capacidade) {
+        if (capacidade > dados.length) {
+            int novaCapacidade = Math.max(capacidade, dados.length + (dados.length >> 1) + 1);
+            if (novaCapacidade < 0) {
+                novaCapacidade = Integer.MAX_VALUE - 8;
+            }
+            dados = Arrays.copyOf(dados, novaCapacidade);
+        }
+    }
+
+    /**
+     * Ordena o vetor em ordem crescente, no próprio array
+     */
+    public void ordenar() {
+        Arrays.sort(dados, 0, tamanho);
+    }
+
+    /**
+     * Ordena o vetor em ordem crescente com o algoritmo informado
+     */
+    public void ordenar(AlgoritmoOrdenacao algoritmo) {
+        algoritmo.ordenar(dados, 0, tamanho);
+    }
+
+    public VetorInteiros copia() {
+        return new VetorInteiros(Arrays.copyOf(dados, tamanho), tamanho);
+    }
+
+    /**
+     * Devolve o array interno (pode ser maior que {@link #tamanho()}).
+     * Usado pelas rotinas de ordenação para trabalhar sem cópias.
+     */
+    int[] array() {
+        return dados;
+    }
+
+    public int[] paraArray() {
+        return Arrays.copyOf(dados, tamanho);
+    }
+
+    public ArrayList<Integer> paraLista() {
+        ArrayList<Integer> lista = new ArrayList<>(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            lista.add(dados[i]);
+        }
+        return lista;
+    }
+}
@@ -0,0 +1,64 @@
+package br.edu.ifpr.teste.servico.senha;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Avaliação de senhas em lote, sem exceções: cada senha vira um
+ * {@link ResultadoValidacaoSenha} e os lotes grandes são divididos em
+ * blocos avaliados em paralelo.
+ */
+public class AuditoriaSenha {
+    
+    private static final int TAMANHO_BLOCO_PARALELO = 1 << 12;
+    
+    private final PoliticaSenha politica;
+    
+    public AuditoriaSenha() {
+        this(PoliticaSenha.padrao());
+    }
+    
+    public AuditoriaSenha(PoliticaSenha politica) {
+        this.politica = politica;
+    }
+    
+    /**
+     * Avalia todas as senhas; o resultado de índice i corresponde à senha i
+     */
+    public ResultadoValidacaoSenha[] avaliar(List<String> senhas) {
+        String[] vetor = senhas.toArray(new String[0]);
+        ResultadoValidacaoSenha[] resultados = new ResultadoValidacaoSenha[vetor.length];
+        
+        if (vetor.length <= TAMANHO_BLOCO_PARALELO) {
+            avaliar(vetor, resultados, 0, vetor.length);
+            return resultados;
+        }
+        int blocos = (vetor.length + TAMANHO_BLOCO_PARALELO - 1) / TAMANHO_BLOCO_PARALELO;
+        IntStream.range(0, blocos).parallel().forEach(bloco -> {
+            int inicio = bloco * TAMANHO_BLOCO_PARALELO;
+            avaliar(vetor, resultados, inicio, Math.min(inicio + TAMANHO_BLOCO_PARALELO, vetor.length));
+        });
+        return resultados;
+    }
+    
+    /**
+     * Audita um fluxo de senhas (por exemplo, {@code Files.lines}) em
+     * paralelo, guardando apenas os totais. O fluxo não é fechado.
+     */
+    public ResumoAuditoriaSenha auditar(Stream<String> senhas) {
+        return senhas.parallel().collect(ResumoAuditoriaSenha::new,
+                (resumo, senha) -> resumo.registrar(politica.avaliar(senha)),
+                ResumoAuditoriaSenha::combinar);
+    }
+    
+    private void avaliar(String[] senhas, ResultadoValidacaoSenha[] resultados, int inicio, int fim) {
+        for (int i = inicio; i < fim; i++) {
+            resultados[i] = politica.avaliar(senhas[i]);
+        }
+    }
+    
+    public PoliticaSenha getPolitica() {
+        return politica;
+    }
+}
@@ -0,0 +1,19 @@
+package br.edu.ifpr.teste.servico.senha;
+
+import br.edu.ifpr.teste.utils.MensagemUtil;
+
+public enum ForcaSenha {
+    FRACA(MensagemUtil.SENHA_FRACA),
+    MEDIA(MensagemUtil.SENHA_MEDIA),
+    FORTE(MensagemUtil.SENHA_FORTE);
+    
+    private final String mensagem;
+    
+    ForcaSenha(String mensagem) {
+        this.mensagem = mensagem;
+    }
+    
+    public String getMensagem() {
+        return mensagem;
+    }
+}
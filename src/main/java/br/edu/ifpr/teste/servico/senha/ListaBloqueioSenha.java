@@ -0,0 +1,244 @@
+package br.edu.ifpr.teste.servico.senha;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Lista de senhas vazadas consultada totalmente offline. O arquivo, gerado
+ * uma vez por {@link #indexar(InputStream, Path, double)}, contém:
+ *
+ * <pre>
+ * cabeçalho (32 bytes): mágico, versão, funções de hash, log2 dos bits, quantidade
+ * filtro de Bloom: 2^log2Bits bits, em longs
+ * hashes de 64 bits das senhas, ordenados e sem repetição
+ * </pre>
+ *
+ * Abrir apenas mapeia o arquivo em memória, sem ler nada para o heap. O
+ * filtro descarta quase todas as senhas ausentes tocando poucas páginas; os
+ * positivos são confirmados por busca binária nos hashes, o que elimina os
+ * falsos positivos do filtro. Instâncias podem ser usadas por várias threads.
+ */
+public class ListaBloqueioSenha {
+    
+    public static final double TAXA_FALSOS_POSITIVOS_PADRAO = 0.001;
+    
+    private static final int MAGICO = 0x424C5153; // "BLQS"
+    private static final int VERSAO = 1;
+    private static final int TAMANHO_CABECALHO = 32;
+    private static final int MAXIMO_FUNCOES = 16;
+    // Cada região precisa caber em um único mapeamento (2 GiB)
+    private static final int MAXIMO_LOG2_BITS = 33;
+    private static final long MAXIMO_SENHAS = Integer.MAX_VALUE / Long.BYTES;
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+    
+    private final LongBuffer filtro;
+    private final LongBuffer hashes;
+    private final int funcoesHash;
+    private final long mascaraBits;
+    private final int quantidade;
+    
+    private ListaBloqueioSenha(LongBuffer filtro, LongBuffer hashes, int funcoesHash, int log2Bits) {
+        this.filtro = filtro;
+        this.hashes = hashes;
+        this.funcoesHash = funcoesHash;
+        this.mascaraBits = (1L << log2Bits) - 1;
+        this.quantidade = hashes.capacity();
+    }
+    
+    /**
+     * Abre um arquivo gerado por {@link #indexar(InputStream, Path, double)}
+     * @throws IOException se o arquivo não existir ou não estiver no formato esperado
+     */
+    public static ListaBloqueioSenha abrir(Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO);
+            while (cabecalho.hasRemaining() && canal.read(cabecalho) >= 0) {
+                // Lê até completar o cabeçalho ou o arquivo acabar
+            }
+            cabecalho.flip();
+            if (cabecalho.remaining() < TAMANHO_CABECALHO || cabecalho.getInt() != MAGICO) {
+                throw new IOException("Arquivo não é uma lista de bloqueio: " + arquivo);
+            }
+            if (cabecalho.getInt() != VERSAO) {
+                throw new IOException("Versão de lista de bloqueio não suportada: " + arquivo);
+            }
+            int funcoesHash = cabecalho.getInt();
+            int log2Bits = cabecalho.getInt();
+            long quantidade = cabecalho.getLong();
+            if (funcoesHash < 1 || funcoesHash > MAXIMO_FUNCOES || log2Bits < 6 || log2Bits > MAXIMO_LOG2_BITS
+                    || quantidade < 0 || quantidade > MAXIMO_SENHAS) {
+                throw new IOException("Cabeçalho inválido na lista de bloqueio: " + arquivo);
+            }
+            
+            long bytesFiltro = (1L << log2Bits) / 8;
+            long bytesHashes = quantidade * Long.BYTES;
+            if (canal.size() != TAMANHO_CABECALHO + bytesFiltro + bytesHashes) {
+                throw new IOException("Lista de bloqueio truncada: " + arquivo);
+            }
+            // O mapeamento continua válido depois que o canal é fechado
+            LongBuffer filtro = canal.map(FileChannel.MapMode.READ_ONLY, TAMANHO_CABECALHO, bytesFiltro).asLongBuffer();
+            LongBuffer hashes = canal.map(FileChannel.MapMode.READ_ONLY, TAMANHO_CABECALHO + bytesFiltro, bytesHashes)
+                    .asLongBuffer();
+            return new ListaBloqueioSenha(filtro, hashes, funcoesHash, log2Bits);
+        }
+    }
+    
+    /**
+     * Verdadeiro se a senha estiver na lista (a menos de colisões de hash de 64 bits)
+     */
+    public boolean contem(String senha) {
+        long hash = hash(senha);
+        long passo = passo(hash);
+        long posicao = hash;
+        for (int i = 0; i < funcoesHash; i++) {
+            long bit = posicao & mascaraBits;
+            if ((filtro.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+            posicao += passo;
+        }
+        return confirmar(hash);
+    }
+    
+    private boolean confirmar(long hash) {
+        int inicio = 0;
+        int fim = quantidade - 1;
+        while (inicio <= fim) {
+            int meio = (inicio + fim) >>> 1;
+            long valor = hashes.get(meio);
+            if (valor < hash) {
+                inicio = meio + 1;
+            } else if (valor > hash) {
+                fim = meio - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    public int getQuantidade() {
+        return quantidade;
+    }
+    
+    /**
+     * Gera o arquivo da lista a partir de um texto UTF-8 com uma senha por
+     * linha; linhas vazias são ignoradas e repetições contam uma vez.
+     * @param taxaFalsosPositivos taxa desejada para o filtro, entre 0 e 1 (exclusivos)
+     * @return a quantidade de senhas distintas gravadas
+     */
+    public static long indexar(InputStream entrada, Path saida, double taxaFalsosPositivos) throws IOException {
+        if (!(taxaFalsosPositivos > 0 && taxaFalsosPositivos < 1)) {
+            throw new IllegalArgumentException("A taxa de falsos positivos deve estar entre 0 e 1");
+        }
+        
+        long[] todos = new long[1024];
+        int lidos = 0;
+        BufferedReader leitor = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8), TAMANHO_BUFFER);
+        String linha;
+        while ((linha = leitor.readLine()) != null) {
+            if (linha.isEmpty()) {
+                continue;
+            }
+            if (lidos == todos.length) {
+                if (lidos == MAXIMO_SENHAS) {
+                    throw new IOException("A lista excede " + MAXIMO_SENHAS + " senhas");
+                }
+                todos = Arrays.copyOf(todos, (int) Math.min(MAXIMO_SENHAS, 2L * lidos));
+            }
+            todos[lidos++] = hash(linha);
+        }
+        
+        Arrays.parallelSort(todos, 0, lidos);
+        int quantidade = 0;
+        for (int i = 0; i < lidos; i++) {
+            if (quantidade == 0 || todos[i] != todos[quantidade - 1]) {
+                todos[quantidade++] = todos[i];
+            }
+        }
+        
+        // Tamanho ótimo do filtro, arredondado para potência de 2 para trocar o resto por máscara
+        double bitsIdeais = -Math.max(quantidade, 1) * Math.log(taxaFalsosPositivos) / (Math.log(2) * Math.log(2));
+        int log2Bits = Math.max(6, 64 - Long.numberOfLeadingZeros((long) Math.ceil(bitsIdeais) - 1));
+        if (log2Bits > MAXIMO_LOG2_BITS) {
+            throw new IOException("Filtro grande demais para a taxa de falsos positivos pedida");
+        }
+        long bits = 1L << log2Bits;
+        int funcoesHash = (int) Math.max(1, Math.min(MAXIMO_FUNCOES,
+                Math.round((double) bits / Math.max(quantidade, 1) * Math.log(2))));
+        
+        long[] filtro = new long[(int) (bits / 64)];
+        long mascaraBits = bits - 1;
+        for (int i = 0; i < quantidade; i++) {
+            long passo = passo(todos[i]);
+            long posicao = todos[i];
+            for (int f = 0; f < funcoesHash; f++) {
+                long bit = posicao & mascaraBits;
+                filtro[(int) (bit >>> 6)] |= 1L << bit;
+                posicao += passo;
+            }
+        }
+        
+        try (FileChannel canal = FileChannel.open(saida, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(TAMANHO_BUFFER);
+            buffer.putInt(MAGICO).putInt(VERSAO).putInt(funcoesHash).putInt(log2Bits)
+                    .putLong(quantidade).putLong(0);
+            escrever(canal, buffer, filtro, filtro.length);
+            escrever(canal, buffer, todos, quantidade);
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+        }
+        return quantidade;
+    }
+    
+    private static void escrever(FileChannel canal, ByteBuffer buffer, long[] valores, int quantidade) throws IOException {
+        for (int i = 0; i < quantidade; i++) {
+            if (buffer.remaining() < Long.BYTES) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    canal.write(buffer);
+                }
+                buffer.clear();
+            }
+            buffer.putLong(valores[i]);
+        }
+    }
+    
+    /**
+     * FNV-1a sobre os chars seguido da finalização do MurmurHash3, que
+     * espalha os bits para o uso como posição no filtro
+     */
+    static long hash(String senha) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < senha.length(); i++) {
+            h = (h ^ senha.charAt(i)) * 0x100000001B3L;
+        }
+        return misturar(h);
+    }
+    
+    // Segundo hash para o esquema de hashing duplo; ímpar para percorrer todas as posições
+    private static long passo(long hash) {
+        return misturar(hash ^ 0x9E3779B97F4A7C15L) | 1;
+    }
+    
+    private static long misturar(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
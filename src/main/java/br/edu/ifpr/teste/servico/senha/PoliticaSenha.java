@@ -0,0 +1,150 @@
+package br.edu.ifpr.teste.servico.senha;
+
+import java.util.Arrays;
+
+/**
+ * Política de senha compilada uma única vez: as classes de caractere ficam
+ * em uma tabela de bits e a avaliação percorre a senha uma só vez, sem
+ * expressões regulares.
+ *
+ * A força independe das exigências: um ponto por classe presente (minúscula,
+ * maiúscula, dígito e especial) e um ponto a cada limite de tamanho atingido.
+ * Instâncias são imutáveis e podem ser compartilhadas entre threads; os
+ * resultados devolvidos são pré-criados, então a avaliação não aloca.
+ */
+public class PoliticaSenha {
+    
+    public static final String CARACTERES_ESPECIAIS_PADRAO = "!@#$%^&*";
+    public static final int TAMANHO_MEDIO = 8;
+    public static final int TAMANHO_FORTE = 12;
+    
+    // Classes de caractere, um bit cada
+    private static final int MINUSCULA = 1;
+    private static final int MAIUSCULA = 2;
+    private static final int DIGITO = 4;
+    private static final int ESPECIAL = 8;
+    
+    private static final PoliticaSenha PADRAO =
+            new PoliticaSenha(0, CARACTERES_ESPECIAIS_PADRAO, RegraSenha.CARACTERE_ESPECIAL);
+    
+    private final byte[] classesAscii = new byte[128];
+    // Especiais fora do ASCII, ordenados para busca binária
+    private final char[] especiaisEstendidos;
+    private final int tamanhoMinimo;
+    private final int exigencias;
+    
+    /**
+     * @param tamanhoMinimo tamanho mínimo, verificado se {@link RegraSenha#TAMANHO_MINIMO} for exigida
+     * @param caracteresEspeciais caracteres que contam como especiais
+     * @param regras regras exigidas
+     */
+    public PoliticaSenha(int tamanhoMinimo, String caracteresEspeciais, RegraSenha... regras) {
+        if (tamanhoMinimo < 0) {
+            throw new IllegalArgumentException("O tamanho mínimo não pode ser negativo");
+        }
+        if (caracteresEspeciais.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um caractere especial");
+        }
+        this.tamanhoMinimo = tamanhoMinimo;
+        
+        int mascara = 0;
+        for (RegraSenha regra : regras) {
+            mascara |= 1 << regra.ordinal();
+        }
+        this.exigencias = mascara;
+        
+        for (char c = 'a'; c <= 'z'; c++) {
+            classesAscii[c] = MINUSCULA;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            classesAscii[c] = MAIUSCULA;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            classesAscii[c] = DIGITO;
+        }
+        
+        StringBuilder estendidos = new StringBuilder();
+        for (int i = 0; i < caracteresEspeciais.length(); i++) {
+            char c = caracteresEspeciais.charAt(i);
+            if (c < 128) {
+                classesAscii[c] = ESPECIAL;
+            } else {
+                estendidos.append(c);
+            }
+        }
+        this.especiaisEstendidos = estendidos.toString().toCharArray();
+        Arrays.sort(especiaisEstendidos);
+    }
+    
+    /**
+     * Política usada por padrão pelo ServicoSenha: exige só um caractere especial
+     */
+    public static PoliticaSenha padrao() {
+        return PADRAO;
+    }
+    
+    public ResultadoValidacaoSenha avaliar(String senha) {
+        int tamanho = senha.length();
+        int classes = 0;
+        for (int i = 0; i < tamanho; i++) {
+            classes |= classe(senha.charAt(i));
+        }
+        
+        int violacoes = 0;
+        if (tamanho < tamanhoMinimo) {
+            violacoes |= 1 << RegraSenha.TAMANHO_MINIMO.ordinal();
+        }
+        if ((classes & ESPECIAL) == 0) {
+            violacoes |= 1 << RegraSenha.CARACTERE_ESPECIAL.ordinal();
+        }
+        if ((classes & DIGITO) == 0) {
+            violacoes |= 1 << RegraSenha.DIGITO.ordinal();
+        }
+        if ((classes & MAIUSCULA) == 0) {
+            violacoes |= 1 << RegraSenha.MAIUSCULA.ordinal();
+        }
+        if ((classes & MINUSCULA) == 0) {
+            violacoes |= 1 << RegraSenha.MINUSCULA.ordinal();
+        }
+        
+        return ResultadoValidacaoSenha.de(violacoes & exigencias, forca(classes, tamanho));
+    }
+    
+    private int classe(char c) {
+        if (c < 128) {
+            return classesAscii[c];
+        }
+        if (especiaisEstendidos.length > 0 && Arrays.binarySearch(especiaisEstendidos, c) >= 0) {
+            return ESPECIAL;
+        }
+        if (Character.isLowerCase(c)) {
+            return MINUSCULA;
+        }
+        if (Character.isUpperCase(c)) {
+            return MAIUSCULA;
+        }
+        return Character.isDigit(c) ? DIGITO : 0;
+    }
+    
+    private static ForcaSenha forca(int classes, int tamanho) {
+        int pontos = Integer.bitCount(classes);
+        if (tamanho >= TAMANHO_MEDIO) {
+            pontos++;
+        }
+        if (tamanho >= TAMANHO_FORTE) {
+            pontos++;
+        }
+        if (pontos >= 6) {
+            return ForcaSenha.FORTE;
+        }
+        return pontos >= 4 ? ForcaSenha.MEDIA : ForcaSenha.FRACA;
+    }
+    
+    public int getTamanhoMinimo() {
+        return tamanhoMinimo;
+    }
+    
+    public boolean exige(RegraSenha regra) {
+        return (exigencias & (1 << regra.ordinal())) != 0;
+    }
+}
@@ -0,0 +1,27 @@
+package br.edu.ifpr.teste.servico.senha;
+
+import br.edu.ifpr.teste.utils.MensagemUtil;
+
+/**
+ * Exigências que uma {@link PoliticaSenha} pode impor. A ordem de declaração
+ * é a ordem em que as violações são relatadas.
+ */
+public enum RegraSenha {
+    TAMANHO_MINIMO(MensagemUtil.ERRO_SENHA_CURTA),
+    CARACTERE_ESPECIAL(MensagemUtil.ERRO_SENHA_SEM_CARACTERE_ESPECIAL),
+    DIGITO(MensagemUtil.ERRO_SENHA_SEM_DIGITO),
+    MAIUSCULA(MensagemUtil.ERRO_SENHA_SEM_MAIUSCULA),
+    MINUSCULA(MensagemUtil.ERRO_SENHA_SEM_MINUSCULA),
+    /** Verificada pelo ServicoSenha quando há uma {@link ListaBloqueioSenha}, não pela política */
+    LISTA_BLOQUEIO(MensagemUtil.ERRO_SENHA_BLOQUEADA);
+    
+    private final String mensagem;
+    
+    RegraSenha(String mensagem) {
+        this.mensagem = mensagem;
+    }
+    
+    public String getMensagem() {
+        return mensagem;
+    }
+}
@@ -0,0 +1,89 @@
+package br.edu.ifpr.teste.servico.senha;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Resultado da avaliação de uma senha: todas as regras violadas e a força
+ */
+public class ResultadoValidacaoSenha {
+    
+    private static final RegraSenha[] REGRAS = RegraSenha.values();
+    private static final ForcaSenha[] FORCAS = ForcaSenha.values();
+    
+    // Só existem 2^regras × forças resultados possíveis: todos são pré-criados
+    private static final ResultadoValidacaoSenha[] RESULTADOS =
+            new ResultadoValidacaoSenha[(1 << REGRAS.length) * FORCAS.length];
+    
+    static {
+        for (int violacoes = 0; violacoes < 1 << REGRAS.length; violacoes++) {
+            for (ForcaSenha forca : FORCAS) {
+                RESULTADOS[violacoes * FORCAS.length + forca.ordinal()] = new ResultadoValidacaoSenha(violacoes, forca);
+            }
+        }
+    }
+    
+    private final int violacoes;
+    private final ForcaSenha forca;
+    
+    private ResultadoValidacaoSenha(int violacoes, ForcaSenha forca) {
+        this.violacoes = violacoes;
+        this.forca = forca;
+    }
+    
+    static ResultadoValidacaoSenha de(int violacoes, ForcaSenha forca) {
+        return RESULTADOS[violacoes * FORCAS.length + forca.ordinal()];
+    }
+    
+    /**
+     * O mesmo resultado com mais uma regra violada
+     */
+    public ResultadoValidacaoSenha comViolacao(RegraSenha regra) {
+        return de(violacoes | (1 << regra.ordinal()), forca);
+    }
+    
+    public boolean isValida() {
+        return violacoes == 0;
+    }
+    
+    public boolean violou(RegraSenha regra) {
+        return (violacoes & (1 << regra.ordinal())) != 0;
+    }
+    
+    /**
+     * Primeira regra violada, na ordem de {@link RegraSenha}, ou null se a senha for válida
+     */
+    public RegraSenha getPrimeiraViolacao() {
+        return violacoes == 0 ? null : REGRAS[Integer.numberOfTrailingZeros(violacoes)];
+    }
+    
+    public Set<RegraSenha> getViolacoes() {
+        if (violacoes == 0) {
+            return Collections.emptySet();
+        }
+        EnumSet<RegraSenha> regras = EnumSet.noneOf(RegraSenha.class);
+        for (RegraSenha regra : REGRAS) {
+            if (violou(regra)) {
+                regras.add(regra);
+            }
+        }
+        return Collections.unmodifiableSet(regras);
+    }
+    
+    /**
+     * Violações como código numérico: o bit {@code 1 << regra.ordinal()} indica cada regra violada
+     */
+    public int getCodigoViolacoes() {
+        return violacoes;
+    }
+    
+    public ForcaSenha getForca() {
+        return forca;
+    }
+    
+    @Override
+    public String toString() {
+        return forca + " " + getViolacoes();
+    }
+}
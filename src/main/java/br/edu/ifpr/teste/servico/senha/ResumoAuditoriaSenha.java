@@ -0,0 +1,56 @@
+package br.edu.ifpr.teste.servico.senha;
+
+/**
+ * Totais de uma auditoria de senhas: quantidade por força e por regra violada
+ */
+public class ResumoAuditoriaSenha {
+    
+    private long total;
+    private long validas;
+    private final long[] porForca = new long[ForcaSenha.values().length];
+    private final long[] porRegra = new long[RegraSenha.values().length];
+    
+    void registrar(ResultadoValidacaoSenha resultado) {
+        total++;
+        porForca[resultado.getForca().ordinal()]++;
+        int violacoes = resultado.getCodigoViolacoes();
+        if (violacoes == 0) {
+            validas++;
+        }
+        while (violacoes != 0) {
+            porRegra[Integer.numberOfTrailingZeros(violacoes)]++;
+            violacoes &= violacoes - 1;
+        }
+    }
+    
+    void combinar(ResumoAuditoriaSenha outro) {
+        total += outro.total;
+        validas += outro.validas;
+        for (int i = 0; i < porForca.length; i++) {
+            porForca[i] += outro.porForca[i];
+        }
+        for (int i = 0; i < porRegra.length; i++) {
+            porRegra[i] += outro.porRegra[i];
+        }
+    }
+    
+    public long getTotal() {
+        return total;
+    }
+    
+    public long getValidas() {
+        return validas;
+    }
+    
+    public long getInvalidas() {
+        return total - validas;
+    }
+    
+    public long getQuantidade(ForcaSenha forca) {
+        return porForca[forca.ordinal()];
+    }
+    
+    public long getViolacoes(RegraSenha regra) {
+        return porRegra[regra.ordinal()];
+    }
+}
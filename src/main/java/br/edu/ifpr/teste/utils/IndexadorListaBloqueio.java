@@ -0,0 +1,71 @@
+package br.edu.ifpr.teste.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import br.edu.ifpr.teste.servico.senha.ListaBloqueioSenha;
+
+/**
+ * Linha de comando que gera, uma única vez e offline, o arquivo da
+ * {@link ListaBloqueioSenha} a partir de um texto com uma senha por linha.
+ */
+public class IndexadorListaBloqueio {
+
+    private static final String USO = "Uso: indexar-bloqueio [--falsos-positivos=TAXA] entrada.txt saida.blq";
+
+    public static void main(String[] args) {
+        System.exit(executar(args, System.out, System.err));
+    }
+
+    /**
+     * @return o código de saída: 0 em caso de sucesso, 1 para erro de leitura e 2 para argumentos inválidos
+     */
+    public static int executar(String[] args, PrintStream saida, PrintStream erro) {
+        double taxa = ListaBloqueioSenha.TAXA_FALSOS_POSITIVOS_PADRAO;
+        List<String> arquivos = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--falsos-positivos=")) {
+                try {
+                    taxa = Double.parseDouble(arg.substring(arg.indexOf('=') + 1));
+                } catch (NumberFormatException e) {
+                    taxa = Double.NaN;
+                }
+                if (!(taxa > 0 && taxa < 1)) {
+                    erro.println("Valor inválido em " + arg);
+                    erro.println(USO);
+                    return 2;
+                }
+            } else if (arg.startsWith("--")) {
+                erro.println("Opção desconhecida: " + arg);
+                erro.println(USO);
+                return 2;
+            } else {
+                arquivos.add(arg);
+            }
+        }
+        if (arquivos.size() != 2) {
+            erro.println(USO);
+            return 2;
+        }
+
+        Path entrada = Paths.get(arquivos.get(0));
+        Path destino = Paths.get(arquivos.get(1));
+        long inicio = System.nanoTime();
+        try (InputStream in = Files.newInputStream(entrada)) {
+            long quantidade = ListaBloqueioSenha.indexar(in, destino, taxa);
+            saida.println(String.format(Locale.ROOT, "%d senhas distintas, %d bytes, %.1f ms",
+                    quantidade, Files.size(destino), (System.nanoTime() - inicio) / 1e6));
+            return 0;
+        } catch (IOException | RuntimeException e) {
+            erro.println("Erro ao indexar: " + e.getMessage());
+            return 1;
+        }
+    }
+}
@@ -1,7 +1,289 @@
-package br.edu.ifpr.teste;
+package br.edu.ifpr.teste.utils;
 
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import br.edu.ifpr.teste.servico.ordenacao.AlgoritmoOrdenacao;
+import br.edu.ifpr.teste.servico.ordenacao.FormatadorSaida;
+import br.edu.ifpr.teste.servico.ordenacao.LeitorNumeros;
+import br.edu.ifpr.teste.servico.ordenacao.MapaBitsCompactado;
+import br.edu.ifpr.teste.servico.ordenacao.OrdenacaoExterna;
+import br.edu.ifpr.teste.servico.ordenacao.OrdenacaoParalela;
+import br.edu.ifpr.teste.servico.ordenacao.SeletorAlgoritmo;
+import br.edu.ifpr.teste.servico.ordenacao.ServicoOrdenacao;
+import br.edu.ifpr.teste.servico.ordenacao.VetorInteiros;
+
+/**
+ * Linha de comando que ordena um ou mais arquivos no formato do
+ * {@link ServicoOrdenacao} (quantidade na primeira linha e um número por
+ * linha) e imprime cada resultado como {@code "a, b, c"}, um por linha, na
+ * ordem dos arquivos. Sem arquivos, ou com {@code -}, lê da entrada padrão.
+ * Com {@code --distintos}, imprime cada valor uma única vez.
+ */
 public class Main {
+
+    private static final String USO = "Uso: ordenar [--algoritmo=sequencial|paralelo|radix|contagem|automatico] [--threads=N]"
+            + " [--memoria=BYTES[K|M|G]] [--distintos] [--stats] [arquivo ... | -]";
+
     public static void main(String[] args) {
-        System.out.println("Hello world!");
+        System.exit(executar(args, System.in, System.out, System.err));
+    }
+
+    /**
+     * Executa o comando com as entradas e saídas informadas
+     * @return o código de saída: 0 em caso de sucesso, 1 para erro de leitura e 2 para argumentos inválidos
+     */
+    public static int executar(String[] args, InputStream entradaPadrao, PrintStream saida, PrintStream erro) {
+        Opcoes opcoes;
+        try {
+            opcoes = Opcoes.ler(args);
+        } catch (IllegalArgumentException e) {
+            erro.println(e.getMessage());
+            erro.println(USO);
+            return 2;
+        }
+
+        OutputStream destino = new BufferedOutputStream(saida, 64 * 1024);
+        try {
+            for (String arquivo : opcoes.arquivos) {
+                Estatisticas estatisticas = ordenarArquivo(arquivo, entradaPadrao, destino, opcoes);
+                if (opcoes.stats) {
+                    destino.flush();
+                    erro.println(estatisticas.descrever(arquivo));
+                }
+            }
+            destino.flush();
+            return 0;
+        } catch (IOException | RuntimeException e) {
+            try {
+                destino.flush();
+            } catch (IOException ignorada) {
+                // Já há um erro a reportar
+            }
+            erro.println("Erro ao ordenar: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private static Estatisticas ordenarArquivo(String arquivo, InputStream entradaPadrao, OutputStream destino,
+            Opcoes opcoes) throws IOException {
+        Estatisticas estatisticas = new Estatisticas();
+        boolean padrao = "-".equals(arquivo);
+        Path caminho = padrao ? null : Paths.get(arquivo);
+        ContadorBytes entrada = padrao ? new ContadorBytes(entradaPadrao) : null;
+
+        if (opcoes.distintos) {
+            // Os valores vão direto para o mapa de bits, sem montar o vetor
+            long inicio = System.nanoTime();
+            LeitorNumeros leitor = padrao ? new LeitorNumeros(entrada) : LeitorNumeros.de(caminho);
+            MapaBitsCompactado mapa = new MapaBitsCompactado();
+            try {
+                int quantidade = leitor.lerQuantidade();
+                for (int i = 0; i < quantidade; i++) {
+                    mapa.adicionar(leitor.proximoInteiro());
+                }
+            } finally {
+                if (!padrao) {
+                    leitor.close();
+                }
+            }
+            FormatadorSaida formatador = new FormatadorSaida(destino);
+            mapa.paraCada(formatador);
+            formatador.flush();
+            estatisticas.elementos = mapa.cardinalidade();
+            estatisticas.nanosTotal = System.nanoTime() - inicio;
+        } else if (opcoes.memoria > 0) {
+            // Leitura, ordenação e formatação intercaladas: apenas o tempo total é medido
+            long inicio = System.nanoTime();
+            LeitorNumeros leitor = padrao ? new LeitorNumeros(entrada) : LeitorNumeros.de(caminho);
+            try {
+                FormatadorSaida formatador = new FormatadorSaida(destino);
+                estatisticas.elementos = new OrdenacaoExterna(opcoes.memoria, opcoes.algoritmo).ordenar(leitor, formatador);
+                formatador.flush();
+            } finally {
+                if (!padrao) {
+                    leitor.close();
+                }
+            }
+            estatisticas.nanosTotal = System.nanoTime() - inicio;
+        } else {
+            ServicoOrdenacao servico = new ServicoOrdenacao(opcoes.algoritmo);
+
+            long inicio = System.nanoTime();
+            VetorInteiros vetor;
+            if (padrao) {
+                vetor = new LeitorNumeros(entrada).lerVetor();
+            } else {
+                try (LeitorNumeros leitor = LeitorNumeros.de(caminho)) {
+                    vetor = leitor.lerVetor();
+                }
+            }
+            long fimLeitura = System.nanoTime();
+            vetor.ordenar(opcoes.algoritmo);
+            long fimOrdenacao = System.nanoTime();
+            servico.imprimir(vetor, destino);
+            long fimFormatacao = System.nanoTime();
+
+            estatisticas.elementos = vetor.tamanho();
+            estatisticas.nanosLeitura = fimLeitura - inicio;
+            estatisticas.nanosOrdenacao = fimOrdenacao - fimLeitura;
+            estatisticas.nanosFormatacao = fimFormatacao - fimOrdenacao;
+            estatisticas.nanosTotal = fimFormatacao - inicio;
+        }
+        destino.write('\n');
+        estatisticas.bytes = padrao ? entrada.lidos : Files.size(caminho);
+        return estatisticas;
+    }
+
+    private static class Opcoes {
+
+        AlgoritmoOrdenacao algoritmo;
+        long memoria;
+        boolean distintos;
+        boolean stats;
+        final List<String> arquivos = new ArrayList<>();
+
+        static Opcoes ler(String[] args) {
+            Opcoes opcoes = new Opcoes();
+            String nomeAlgoritmo = "automatico";
+            int threads = 0;
+            for (String arg : args) {
+                if (arg.startsWith("--algoritmo=")) {
+                    nomeAlgoritmo = valor(arg);
+                } else if (arg.startsWith("--threads=")) {
+                    threads = inteiroPositivo(arg);
+                } else if (arg.startsWith("--memoria=")) {
+                    opcoes.memoria = tamanhoEmBytes(arg);
+                } else if (arg.equals("--distintos")) {
+                    opcoes.distintos = true;
+                } else if (arg.equals("--stats")) {
+                    opcoes.stats = true;
+                } else if (arg.startsWith("--")) {
+                    throw new IllegalArgumentException("Opção desconhecida: " + arg);
+                } else {
+                    opcoes.arquivos.add(arg);
+                }
+            }
+            if (opcoes.arquivos.isEmpty()) {
+                opcoes.arquivos.add("-");
+            }
+
+            if (threads > 0 && nomeAlgoritmo.equals("paralelo")) {
+                opcoes.algoritmo = new OrdenacaoParalela(threads);
+            } else if (threads > 0 && nomeAlgoritmo.equals("automatico")) {
+                opcoes.algoritmo = new SeletorAlgoritmo(new OrdenacaoParalela(threads));
+            } else {
+                opcoes.algoritmo = AlgoritmoOrdenacao.porNome(nomeAlgoritmo);
+            }
+            return opcoes;
+        }
+
+        private static String valor(String arg) {
+            return arg.substring(arg.indexOf('=') + 1);
+        }
+
+        private static int inteiroPositivo(String arg) {
+            try {
+                int valor = Integer.parseInt(valor(arg));
+                if (valor > 0) {
+                    return valor;
+                }
+            } catch (NumberFormatException e) {
+                // Tratado abaixo
+            }
+            throw new IllegalArgumentException("Valor inválido em " + arg);
+        }
+
+        private static long tamanhoEmBytes(String arg) {
+            String valor = valor(arg).toUpperCase(Locale.ROOT);
+            long multiplicador = 1;
+            if (valor.endsWith("K")) {
+                multiplicador = 1L << 10;
+            } else if (valor.endsWith("M")) {
+                multiplicador = 1L << 20;
+            } else if (valor.endsWith("G")) {
+                multiplicador = 1L << 30;
+            }
+            if (multiplicador > 1) {
+                valor = valor.substring(0, valor.length() - 1);
+            }
+            try {
+                long bytes = Long.parseLong(valor) * multiplicador;
+                if (bytes > 0) {
+                    return bytes;
+                }
+            } catch (NumberFormatException e) {
+                // Tratado abaixo
+            }
+            throw new IllegalArgumentException("Valor inválido em " + arg);
+        }
+    }
+
+    private static class Estatisticas {
+
+        long elementos;
+        long bytes;
+        long nanosLeitura;
+        long nanosOrdenacao;
+        long nanosFormatacao;
+        long nanosTotal;
+
+        String descrever(String arquivo) {
+            double segundos = Math.max(nanosTotal, 1) / 1e9;
+            StringBuilder sb = new StringBuilder();
+            sb.append(arquivo).append(": ").append(elementos).append(" números, ").append(bytes).append(" bytes");
+            if (nanosLeitura > 0) {
+                sb.append(String.format(Locale.ROOT, ", leitura %.1f ms, ordenação %.1f ms, formatação %.1f ms",
+                        nanosLeitura / 1e6, nanosOrdenacao / 1e6, nanosFormatacao / 1e6));
+            }
+            sb.append(String.format(Locale.ROOT, ", total %.1f ms, %.1f MB/s",
+                    nanosTotal / 1e6, bytes / segundos / 1e6));
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Conta os bytes lidos da entrada padrão, cujo tamanho não é conhecido antes
+     */
+    private static class ContadorBytes extends FilterInputStream {
+
+        long lidos;
+
+        ContadorBytes(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                lidos++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                lidos += n;
+            }
+            return n;
+        }
+
+        @Override
+        public void close() {
+            // A entrada padrão continua aberta para os próximos arquivos
+        }
     }
-}
\ No newline at end of file
+}
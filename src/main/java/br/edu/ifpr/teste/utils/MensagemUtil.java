@@ -5,4 +5,9 @@ public class MensagemUtil {
     public static final String SENHA_MEDIA = "Senha média";
     public static final String SENHA_FORTE = "Senha forte";
     public static final String ERRO_SENHA_SEM_CARACTERE_ESPECIAL = "A senha deve conter ao menos um caractere especial";
-}
\ No newline at end of file
+    public static final String ERRO_SENHA_CURTA = "A senha não atinge o tamanho mínimo";
+    public static final String ERRO_SENHA_SEM_DIGITO = "A senha deve conter ao menos um dígito";
+    public static final String ERRO_SENHA_SEM_MAIUSCULA = "A senha deve conter ao menos uma letra maiúscula";
+    public static final String ERRO_SENHA_SEM_MINUSCULA = "A senha deve conter ao menos uma letra minúscula";
+    public static final String ERRO_SENHA_BLOQUEADA = "A senha consta na lista de senhas vazadas";
+}
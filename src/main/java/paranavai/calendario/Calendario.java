@@ -1,11 +1,83 @@
 package paranavai.calendario;
 
-import java.time.LocalDate;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.YearMonth;
 import java.util.Calendar;
 
+import br.edu.ifpr.teste.metricas.Contador;
+import br.edu.ifpr.teste.metricas.Histograma;
+import br.edu.ifpr.teste.metricas.Metricas;
+
 public class Calendario {
     
+    private static final String[] NOMES_MESES = {
+        "Janeiro", "Fevereiro", "Março", "Abril", "Maio", "Junho", 
+        "Julho", "Agosto", "Setembro", "Outubro", "Novembro", "Dezembro"
+    };
+    private static final int[] DIAS_POR_MES = { 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31 };
+    private static final int[] DESLOCAMENTO_MES = { 0, 3, 2, 5, 0, 3, 5, 1, 4, 6, 2, 4 };
+    private static final String DIAS_SEMANA = "Do Se Te Qa Qi Se Sa\n";
+    
+    // Cabeçalho mais longo ("Fevereiro 9999\n") mais o corpo mais longo
+    static final int TAMANHO_MAXIMO_MES = 16 + DIAS_SEMANA.length() + 6 * 3 + 31 * 3 + 6;
+    // Em UTF-8 o "ç" de "Março" ocupa um byte a mais
+    static final int TAMANHO_MAXIMO_MES_BYTES = TAMANHO_MAXIMO_MES + 1;
+    static final int TAMANHO_MAXIMO_ANO_BYTES = 12 * (TAMANHO_MAXIMO_MES_BYTES + 1) + 20;
+    
+    private static final String TITULO_ANO = "Calendário ";
+    
+    // Os corpos dos meses comuns vêm do cache; só o mês da reforma é montado à parte
+    private static final Histograma GERACAO_MES = Metricas.histograma("calendario.mes");
+    private static final Histograma GERACAO_ANO = Metricas.histograma("calendario.ano");
+    private static final Contador CORPOS_CACHE = Metricas.contador("calendario.corpo.cache");
+    private static final Contador CORPOS_REFORMA = Metricas.contador("calendario.corpo.reforma");
+    
+    private static final int NUMERO_INVALIDO = Integer.MIN_VALUE;
+    private static final int NUMERO_SATURADO = 100_000_000;
+    
+    // Reforma gregoriana: 2 de setembro de 1752 (juliano) foi seguido por 14 de setembro (gregoriano)
+    private static final int ANO_REFORMA = 1752;
+    private static final int MES_REFORMA = 9;
+    private static final int ULTIMO_DIA_JULIANO = 2;
+    private static final int PRIMEIRO_DIA_GREGORIANO = 14;
+    
+    // Corpos pré-calculados dos meses: só existem 7 dias de início × 4 tamanhos de mês
+    private static final int MENOR_MES = 28;
+    private static final String[][] CORPOS_MES = new String[7][4];
+    private static final String CORPO_REFORMA;
+    
+    // Os mesmos textos em UTF-8, para a escrita em ByteBuffer
+    private static final byte[][] NOMES_MESES_BYTES = new byte[12][];
+    private static final byte[] DIAS_SEMANA_BYTES = DIAS_SEMANA.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TITULO_ANO_BYTES = TITULO_ANO.getBytes(StandardCharsets.UTF_8);
+    private static final byte[][][] CORPOS_MES_BYTES = new byte[7][4][];
+    private static final byte[] CORPO_REFORMA_BYTES;
+    
+    static {
+        for (int diaSemana = 0; diaSemana < 7; diaSemana++) {
+            for (int dias = MENOR_MES; dias <= 31; dias++) {
+                String corpo = gerarCorpoMes(diaSemana, diasSeguidos(1, dias));
+                CORPOS_MES[diaSemana][dias - MENOR_MES] = corpo;
+                CORPOS_MES_BYTES[diaSemana][dias - MENOR_MES] = corpo.getBytes(StandardCharsets.US_ASCII);
+            }
+        }
+        for (int mes = 0; mes < 12; mes++) {
+            NOMES_MESES_BYTES[mes] = NOMES_MESES[mes].getBytes(StandardCharsets.UTF_8);
+        }
+        
+        // O mês da reforma pula do último dia juliano para o primeiro gregoriano
+        int[] juliano = diasSeguidos(1, ULTIMO_DIA_JULIANO);
+        int[] gregoriano = diasSeguidos(PRIMEIRO_DIA_GREGORIANO, DIAS_POR_MES[MES_REFORMA - 1]);
+        int[] diasReforma = new int[juliano.length + gregoriano.length];
+        System.arraycopy(juliano, 0, diasReforma, 0, juliano.length);
+        System.arraycopy(gregoriano, 0, diasReforma, juliano.length, gregoriano.length);
+        CORPO_REFORMA = gerarCorpoMes(diaSemana(ANO_REFORMA, MES_REFORMA, 1), diasReforma);
+        CORPO_REFORMA_BYTES = CORPO_REFORMA.getBytes(StandardCharsets.US_ASCII);
+    }
+    
     public String getCalendario() {
         Calendar cal = Calendar.getInstance();
         int mes = cal.get(Calendar.MONTH) + 1; // Janeiro é 0 no Calendar
@@ -15,14 +87,35 @@ public class Calendario {
     
 
     public String getCalendario(String ano) {
-        validarAno(ano);
-        return gerarCalendarioAno(Integer.parseInt(ano));
+        return gerarCalendarioAno(validarAno(ano));
     }
     
     public String getCalendario(String mes, String ano) {
+        int numeroMes = validarMes(mes);
+        return gerarCalendarioMesAno(numeroMes, validarAno(ano));
+    }
+    
+    /**
+     * Calendário do ano inteiro, sem conversão de texto
+     * @throws IllegalArgumentException se o ano estiver fora de 1 a 9999
+     */
+    public String getCalendario(int ano) {
+        validarAno(ano);
+        return gerarCalendarioAno(ano);
+    }
+    
+    /**
+     * Calendário do mês, sem conversão de texto
+     * @throws IllegalArgumentException se o mês ou o ano estiverem fora dos limites
+     */
+    public String getCalendario(int mes, int ano) {
         validarMes(mes);
         validarAno(ano);
-        return gerarCalendarioMesAno(Integer.parseInt(mes), Integer.parseInt(ano));
+        return gerarCalendarioMesAno(mes, ano);
+    }
+    
+    public String getCalendario(YearMonth mesAno) {
+        return getCalendario(mesAno.getMonthValue(), mesAno.getYear());
     }
     
     public String getCalendario(String... variosParametros) {
@@ -35,102 +128,281 @@ public class Calendario {
         }
     }
     
-    private void validarMes(String mesStr) {
-        try {
-            int mes = Integer.parseInt(mesStr);
-            if (mes < 1 || mes > 12) {
-                throw new IllegalArgumentException("Mês deve estar entre 1 e 12");
-            }
-        } catch (NumberFormatException e) {
+    private int validarMes(String mesStr) {
+        int mes = converterNumero(mesStr);
+        if (mes == NUMERO_INVALIDO) {
             throw new IllegalArgumentException("Mês deve ser um número válido");
         }
+        validarMes(mes);
+        return mes;
     }
     
-    private void validarAno(String anoStr) {
-        try {
-            int ano = Integer.parseInt(anoStr);
-            if (ano < 1 || ano > 9999) {
-                throw new IllegalArgumentException("Ano deve estar entre 1 e 9999");
-            }
-        } catch (NumberFormatException e) {
+    private int validarAno(String anoStr) {
+        int ano = converterNumero(anoStr);
+        if (ano == NUMERO_INVALIDO) {
             throw new IllegalArgumentException("Ano deve ser um número válido");
         }
+        validarAno(ano);
+        return ano;
+    }
+    
+    /**
+     * Converte o texto em número sem lançar exceção; devolve
+     * {@link #NUMERO_INVALIDO} se não for um inteiro. Valores muito grandes
+     * saturam, pois já estão fora de qualquer limite válido.
+     */
+    private static int converterNumero(String texto) {
+        if (texto == null || texto.isEmpty()) {
+            return NUMERO_INVALIDO;
+        }
+        int i = 0;
+        boolean negativo = false;
+        char sinal = texto.charAt(0);
+        if (sinal == '-' || sinal == '+') {
+            negativo = sinal == '-';
+            i = 1;
+            if (texto.length() == 1) {
+                return NUMERO_INVALIDO;
+            }
+        }
+        int valor = 0;
+        for (; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c < '0' || c > '9') {
+                return NUMERO_INVALIDO;
+            }
+            valor = Math.min(valor * 10 + (c - '0'), NUMERO_SATURADO);
+        }
+        return negativo ? -valor : valor;
+    }
+    
+    /**
+     * Escreve o calendário do mês no destino, sem montar uma String intermediária
+     * @throws IllegalArgumentException se o mês ou o ano estiverem fora dos limites
+     */
+    public void escreverCalendario(int mes, int ano, Appendable destino) throws IOException {
+        validarMes(mes);
+        validarAno(ano);
+        escreverMesAno(mes, ano, destino);
+    }
+    
+    /**
+     * Escreve o calendário do ano inteiro no destino, sem montar uma String intermediária
+     * @throws IllegalArgumentException se o ano estiver fora dos limites
+     */
+    public void escreverCalendario(int ano, Appendable destino) throws IOException {
+        validarAno(ano);
+        escreverAno(ano, destino);
+    }
+    
+    /**
+     * Escreve o calendário do mês em UTF-8 no buffer
+     * @throws IllegalArgumentException se o mês ou o ano estiverem fora dos limites
+     * @throws java.nio.BufferOverflowException se não houver espaço no buffer
+     */
+    public void escreverCalendario(int mes, int ano, ByteBuffer destino) {
+        validarMes(mes);
+        validarAno(ano);
+        escreverMesAno(mes, ano, destino);
+    }
+    
+    /**
+     * Escreve o calendário do ano inteiro em UTF-8 no buffer
+     * @throws IllegalArgumentException se o ano estiver fora dos limites
+     * @throws java.nio.BufferOverflowException se não houver espaço no buffer
+     */
+    public void escreverCalendario(int ano, ByteBuffer destino) {
+        validarAno(ano);
+        escreverAno(ano, destino);
+    }
+    
+    private void validarMes(int mes) {
+        if (mes < 1 || mes > 12) {
+            throw new IllegalArgumentException("Mês deve estar entre 1 e 12");
+        }
+    }
+    
+    private void validarAno(int ano) {
+        if (ano < 1 || ano > 9999) {
+            throw new IllegalArgumentException("Ano deve estar entre 1 e 9999");
+        }
     }
     
     private String gerarCalendarioMesAno(int mes, int ano) {
-        // Tratamento especial para janeiro de 2025 (para o teste imprimeJaneiro2025)
-        if (mes == 1 && ano == 2025) {
-            return "Janeiro 2025\n" +
-                   "Do Se Te Qa Qi Se Sa\n" +
-                   "          1  2  3  4\n" +
-                   " 5  6  7  8  9 10 11\n" +
-                   "12 13 14 15 16 17 18\n" +
-                   "19 20 21 22 23 24 25\n" +
-                   "26 27 28 29 30 31\n";
+        long inicio = Metricas.inicio();
+        StringBuilder sb = new StringBuilder(TAMANHO_MAXIMO_MES);
+        try {
+            escreverMesAno(mes, ano, sb);
+        } catch (IOException e) {
+            // StringBuilder não lança IOException
+            throw new UncheckedIOException(e);
+        }
+        GERACAO_MES.registrarDesde(inicio);
+        return sb.toString();
+    }
+    
+    private String gerarCalendarioAno(int ano) {
+        long inicio = Metricas.inicio();
+        StringBuilder sb = new StringBuilder(12 * (TAMANHO_MAXIMO_MES + 1) + 20);
+        try {
+            escreverAno(ano, sb);
+        } catch (IOException e) {
+            // StringBuilder não lança IOException
+            throw new UncheckedIOException(e);
         }
+        GERACAO_ANO.registrarDesde(inicio);
+        return sb.toString();
+    }
+    
+    void escreverMesAno(int mes, int ano, Appendable destino) throws IOException {
+        // Cabeçalho com nome do mês e ano, seguido do corpo pré-calculado
+        destino.append(NOMES_MESES[mes - 1]).append(' ');
+        escreverNumero(ano, destino);
+        destino.append('\n').append(DIAS_SEMANA);
+        if (ano == ANO_REFORMA && mes == MES_REFORMA) {
+            CORPOS_REFORMA.incrementar();
+            destino.append(CORPO_REFORMA);
+        } else {
+            CORPOS_CACHE.incrementar();
+            destino.append(CORPOS_MES[diaSemana(ano, mes, 1)][quantidadeDias(ano, mes) - MENOR_MES]);
+        }
+    }
+    
+    void escreverAno(int ano, Appendable destino) throws IOException {
+        destino.append(TITULO_ANO);
+        escreverNumero(ano, destino);
+        destino.append("\n\n");
         
-        // Caso especial para setembro de 1752 (reforma gregoriana)
-        if (mes == 9 && ano == 1752) {
-            return "Setembro 1752\n" +
-                   "Do Se Te Qa Qi Se Sa\n" +
-                   "       1  2 14 15 16\n" +
-                   "17 18 19 20 21 22 23\n" +
-                   "24 25 26 27 28 29 30";
+        for (int mes = 1; mes <= 12; mes++) {
+            escreverMesAno(mes, ano, destino);
+            destino.append('\n');
+        }
+    }
+    
+    void escreverMesAno(int mes, int ano, ByteBuffer destino) {
+        destino.put(NOMES_MESES_BYTES[mes - 1]).put((byte) ' ');
+        escreverNumero(ano, destino);
+        destino.put((byte) '\n').put(DIAS_SEMANA_BYTES);
+        if (ano == ANO_REFORMA && mes == MES_REFORMA) {
+            CORPOS_REFORMA.incrementar();
+            destino.put(CORPO_REFORMA_BYTES);
+        } else {
+            CORPOS_CACHE.incrementar();
+            destino.put(CORPOS_MES_BYTES[diaSemana(ano, mes, 1)][quantidadeDias(ano, mes) - MENOR_MES]);
         }
+    }
+    
+    void escreverAno(int ano, ByteBuffer destino) {
+        destino.put(TITULO_ANO_BYTES);
+        escreverNumero(ano, destino);
+        destino.put((byte) '\n').put((byte) '\n');
         
-        // Para todos os outros meses/anos, usa a implementação original
-        YearMonth ym = YearMonth.of(ano, mes);
+        for (int mes = 1; mes <= 12; mes++) {
+            escreverMesAno(mes, ano, destino);
+            destino.put((byte) '\n');
+        }
+    }
+    
+    /**
+     * Escreve um número de 1 a 9999 sem criar uma String
+     */
+    private static void escreverNumero(int numero, Appendable destino) throws IOException {
+        for (int divisor = divisorInicial(numero); divisor > 0; divisor /= 10) {
+            destino.append((char) ('0' + numero / divisor % 10));
+        }
+    }
+    
+    private static void escreverNumero(int numero, ByteBuffer destino) {
+        for (int divisor = divisorInicial(numero); divisor > 0; divisor /= 10) {
+            destino.put((byte) ('0' + numero / divisor % 10));
+        }
+    }
+    
+    private static int divisorInicial(int numero) {
+        int divisor = 1;
+        while (numero / divisor >= 10) {
+            divisor *= 10;
+        }
+        return divisor;
+    }
+    
+    /**
+     * Verdadeiro para datas do calendário juliano, anteriores ao mês da reforma.
+     * O próprio mês da reforma começa juliano.
+     */
+    private static boolean juliano(int ano, int mes) {
+        return ano < ANO_REFORMA || (ano == ANO_REFORMA && mes <= MES_REFORMA);
+    }
+    
+    /**
+     * Dia da semana (domingo = 0): pelo número do dia juliano antes da
+     * reforma e pelo método de Sakamoto depois dela
+     */
+    private static int diaSemana(int ano, int mes, int dia) {
+        if (juliano(ano, mes)) {
+            int a = (14 - mes) / 12;
+            int y = ano + 4800 - a;
+            int m = mes + 12 * a - 3;
+            int numeroDiaJuliano = dia + (153 * m + 2) / 5 + 365 * y + y / 4 - 32083;
+            return (numeroDiaJuliano + 1) % 7;
+        }
+        if (mes < 3) {
+            ano--;
+        }
+        return (ano + ano / 4 - ano / 100 + ano / 400 + DESLOCAMENTO_MES[mes - 1] + dia) % 7;
+    }
+    
+    private static int quantidadeDias(int ano, int mes) {
+        if (mes == 2) {
+            boolean bissexto = juliano(ano, mes)
+                    ? ano % 4 == 0
+                    : (ano % 4 == 0 && ano % 100 != 0) || ano % 400 == 0;
+            return bissexto ? 29 : 28;
+        }
+        return DIAS_POR_MES[mes - 1];
+    }
+    
+    private static int[] diasSeguidos(int primeiro, int ultimo) {
+        int[] dias = new int[ultimo - primeiro + 1];
+        for (int i = 0; i < dias.length; i++) {
+            dias[i] = primeiro + i;
+        }
+        return dias;
+    }
+    
+    /**
+     * Gera o corpo de um mês: espaços até o primeiro dia e os dias com
+     * duas posições separados por espaço, uma semana por linha
+     */
+    private static String gerarCorpoMes(int diaSemana, int[] dias) {
         StringBuilder sb = new StringBuilder();
         
-        // Adiciona cabeçalho com nome do mês e ano
-        sb.append(getNomeMes(mes)).append(" ").append(ano).append("\n");
-        sb.append("Do Se Te Qa Qi Se Sa\n");
-        
-        // Gera o conteúdo do calendário
-        LocalDate inicioMes = LocalDate.of(ano, mes, 1);
-        int diaSemana = inicioMes.getDayOfWeek().getValue() % 7; // Ajusta para domingo = 0
-        
-        // Adiciona espaços para o início do mês
+        // Adiciona células vazias até o primeiro dia
         for (int i = 0; i < diaSemana; i++) {
-            sb.append("   ");
+            sb.append(i > 0 ? "   " : "  ");
         }
         
-        // Adiciona os dias do mês
-        int ultimoDia = ym.lengthOfMonth();
-        int contador = 0;
-        
-        for (int dia = 1; dia <= ultimoDia; dia++) {
-            sb.append(String.format("%2d ", dia));
-            contador++;
+        // Adiciona os dias do mês, quebrando a linha a cada sábado
+        int coluna = diaSemana;
+        for (int dia : dias) {
+            if (coluna > 0) {
+                sb.append(' ');
+            }
+            if (dia < 10) {
+                sb.append(' ');
+            }
+            sb.append(dia);
             
-            // Nova linha a cada 7 dias
-            if ((dia + diaSemana) % 7 == 0) {
-                sb.append("\n");
-            } else if (dia == ultimoDia) {
-                // Não adiciona nova linha no último dia se não for necessário
+            coluna++;
+            if (coluna == 7) {
+                sb.append('\n');
+                coluna = 0;
             }
         }
-        
-        return sb.toString();
-    }
-    
-    private String gerarCalendarioAno(int ano) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("Calendário ").append(ano).append("\n\n");
-        
-        for (int mes = 1; mes <= 12; mes++) {
-            sb.append(gerarCalendarioMesAno(mes, ano));
-            sb.append("\n");
+        if (coluna > 0) {
+            sb.append('\n');
         }
         
         return sb.toString();
     }
-    
-    private String getNomeMes(int mes) {
-        String[] nomesMeses = {
-            "Janeiro", "Fevereiro", "Março", "Abril", "Maio", "Junho", 
-            "Julho", "Agosto", "Setembro", "Outubro", "Novembro", "Dezembro"
-        };
-        return nomesMeses[mes - 1];
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,185 @@
+package paranavai.calendario;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Exporta intervalos de meses do {@link Calendario} de uma só vez.
+ *
+ * O intervalo é validado uma única vez e os meses são renderizados em
+ * paralelo, em blocos, e entregues ao destino na ordem cronológica; apenas
+ * alguns blocos ficam em memória ao mesmo tempo.
+ */
+public class ExportadorCalendario {
+    
+    private static final int MESES_POR_TAREFA = 120;
+    
+    private final Calendario calendario;
+    private final int threads;
+    
+    public ExportadorCalendario() {
+        this(new Calendario(), Runtime.getRuntime().availableProcessors());
+    }
+    
+    public ExportadorCalendario(Calendario calendario, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("A quantidade de threads deve ser positiva");
+        }
+        this.calendario = calendario;
+        this.threads = threads;
+    }
+    
+    /**
+     * Escreve em UTF-8 todos os meses de {@code inicio} a {@code fim}
+     * (inclusive), cada um seguido de uma linha em branco. O destino não é fechado.
+     * @throws IllegalArgumentException se o intervalo for inválido ou sair de 1 a 9999
+     */
+    public void exportarIntervalo(YearMonth inicio, YearMonth fim, OutputStream destino) throws IOException {
+        validarIntervalo(inicio, fim);
+        int primeiroMes = indice(inicio);
+        int total = indice(fim) - primeiroMes + 1;
+        
+        executarEmOrdem(total, MESES_POR_TAREFA, (de, ate) -> {
+            ByteBuffer buffer = ByteBuffer.allocate((ate - de) * (Calendario.TAMANHO_MAXIMO_MES_BYTES + 1));
+            for (int i = de; i < ate; i++) {
+                int mes = primeiroMes + i;
+                calendario.escreverMesAno(mes % 12 + 1, mes / 12, buffer);
+                buffer.put((byte) '\n');
+            }
+            return buffer;
+        }, buffer -> destino.write(buffer.array(), 0, buffer.position()));
+        destino.flush();
+    }
+    
+    /**
+     * Igual a {@link #exportarIntervalo(YearMonth, YearMonth, OutputStream)},
+     * escrevendo em um {@link Appendable}
+     */
+    public void exportarIntervalo(YearMonth inicio, YearMonth fim, Appendable destino) throws IOException {
+        validarIntervalo(inicio, fim);
+        int primeiroMes = indice(inicio);
+        int total = indice(fim) - primeiroMes + 1;
+        
+        executarEmOrdem(total, MESES_POR_TAREFA, (de, ate) -> {
+            StringBuilder sb = new StringBuilder((ate - de) * (Calendario.TAMANHO_MAXIMO_MES + 1));
+            for (int i = de; i < ate; i++) {
+                int mes = primeiroMes + i;
+                calendario.escreverMesAno(mes % 12 + 1, mes / 12, sb);
+                sb.append('\n');
+            }
+            return sb;
+        }, destino::append);
+    }
+    
+    /**
+     * Grava um arquivo por ano no diretório, {@code calendario-AAAA.txt}, com
+     * o mesmo conteúdo de {@link Calendario#getCalendario(String)}. Os anos
+     * são renderizados e gravados em paralelo.
+     * @throws IllegalArgumentException se o intervalo for inválido ou sair de 1 a 9999
+     */
+    public void exportarPorAno(int anoInicial, int anoFinal, Path diretorio) throws IOException {
+        validarIntervalo(YearMonth.of(anoInicial, 1), YearMonth.of(anoFinal, 12));
+        Files.createDirectories(diretorio);
+        
+        executarEmOrdem(anoFinal - anoInicial + 1, 1, (de, ate) -> {
+            int ano = anoInicial + de;
+            ByteBuffer buffer = ByteBuffer.allocate(Calendario.TAMANHO_MAXIMO_ANO_BYTES);
+            calendario.escreverAno(ano, buffer);
+            Files.write(diretorio.resolve(nomeArquivo(ano)), Arrays.copyOf(buffer.array(), buffer.position()));
+            return ano;
+        }, ano -> {
+        });
+    }
+    
+    public static String nomeArquivo(int ano) {
+        return String.format("calendario-%04d.txt", ano);
+    }
+    
+    private static void validarIntervalo(YearMonth inicio, YearMonth fim) {
+        if (inicio.isAfter(fim)) {
+            throw new IllegalArgumentException("O início do intervalo deve ser anterior ao fim");
+        }
+        if (inicio.getYear() < 1 || fim.getYear() > 9999) {
+            throw new IllegalArgumentException("Ano deve estar entre 1 e 9999");
+        }
+    }
+    
+    private static int indice(YearMonth mes) {
+        return mes.getYear() * 12 + mes.getMonthValue() - 1;
+    }
+    
+    /**
+     * Divide {@code total} itens em tarefas de {@code porTarefa}, executa-as em
+     * paralelo e entrega os resultados na ordem, com no máximo duas tarefas
+     * por thread em andamento
+     */
+    private <T> void executarEmOrdem(int total, int porTarefa, Tarefa<T> tarefa, Escrita<T> escrita) throws IOException {
+        if (threads == 1 || total <= porTarefa) {
+            for (int de = 0; de < total; de += porTarefa) {
+                escrita.escrever(tarefa.executar(de, Math.min(de + porTarefa, total)));
+            }
+            return;
+        }
+        
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Deque<Future<T>> emAndamento = new ArrayDeque<>();
+            for (int de = 0; de < total; de += porTarefa) {
+                if (emAndamento.size() >= 2 * threads) {
+                    escrita.escrever(resultado(emAndamento.removeFirst()));
+                }
+                int inicio = de;
+                int fim = Math.min(de + porTarefa, total);
+                Callable<T> chamada = () -> tarefa.executar(inicio, fim);
+                emAndamento.addLast(executor.submit(chamada));
+            }
+            while (!emAndamento.isEmpty()) {
+                escrita.escrever(resultado(emAndamento.removeFirst()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private static <T> T resultado(Future<T> futuro) throws IOException {
+        try {
+            return futuro.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Exportação interrompida", e);
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof IOException) {
+                throw (IOException) causa;
+            }
+            if (causa instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) causa).getCause();
+            }
+            if (causa instanceof RuntimeException) {
+                throw (RuntimeException) causa;
+            }
+            throw new IOException(causa);
+        }
+    }
+    
+    private interface Tarefa<T> {
+        T executar(int inicio, int fim) throws IOException;
+    }
+    
+    private interface Escrita<T> {
+        void escrever(T resultado) throws IOException;
+    }
+}
@@ -0,0 +1,97 @@
+package br.edu.ifpr.teste.metricas;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.stream.IntStream;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.edu.ifpr.teste.servico.irpf.CalculadoraIRPF;
+import br.edu.ifpr.teste.servico.ordenacao.ServicoOrdenacao;
+import br.edu.ifpr.teste.servico.ordenacao.ServicoSenha;
+import br.edu.ifpr.teste.servico.ordenacao.VetorInteiros;
+import paranavai.calendario.Calendario;
+
+public class TesteMetricas {
+
+    @BeforeEach
+    public void setUp() {
+        assertTrue(Metricas.ATIVAS, "Os testes rodam com -D" + Metricas.PROPRIEDADE + "=true");
+        Metricas.zerar();
+    }
+
+    @Test
+    public void histogramaCalculaPercentisComErroLimitado() {
+        // Arrange (PREPARAR)
+        Histograma histograma = Metricas.histograma("teste.histograma");
+
+        // Act (AGIR)
+        IntStream.rangeClosed(1, 10000).parallel().forEach(histograma::registrar);
+
+        // Assert (VERIFICAR)
+        assertEquals(10000, histograma.getQuantidade());
+        assertEquals(5000.5, histograma.getMedia(), 1e-9);
+        assertEquals(10000, histograma.getMaximo());
+        long p50 = histograma.percentil(50);
+        assertTrue(p50 >= 5000 && p50 <= 5000 * 1.125, "p50 = " + p50);
+        long p99 = histograma.percentil(99);
+        assertTrue(p99 >= 9900 && p99 <= 10000, "p99 = " + p99);
+        assertEquals(1, histograma.percentil(0));
+    }
+
+    @Test
+    public void servicosRegistramMetricas() throws Exception {
+        // Arrange (PREPARAR)
+        ServicoOrdenacao ordenacao = new ServicoOrdenacao();
+        CalculadoraIRPF calculadora = new CalculadoraIRPF();
+        Calendario calendario = new Calendario();
+        ServicoSenha senha = new ServicoSenha();
+
+        // Act (AGIR)
+        ordenacao.prepararParaImpressao(ordenacao.ordenar(VetorInteiros.de(3, 1, 2)));
+        calculadora.calcularIRPF(new BigDecimal("1000.00"));
+        calculadora.calcularIRPF(1_000_000L);
+        calculadora.calcularIRPF(new long[] { 1, 2 }, new long[2]);
+        calendario.getCalendario(9, 1752);
+        calendario.getCalendario(2024);
+        senha.avaliar("semespecial");
+
+        // Assert (VERIFICAR)
+        assertEquals(1, Metricas.histograma("ordenacao.ordenacao").getQuantidade());
+        assertEquals(3, Metricas.contador("ordenacao.elementos").getValor());
+        assertEquals(1, Metricas.histograma("ordenacao.formatacao").getQuantidade());
+        assertEquals(1, Metricas.histograma("irpf.faixa.1").getQuantidade());
+        assertEquals(1, Metricas.histograma("irpf.faixa.5").getQuantidade());
+        assertEquals(2, Metricas.contador("irpf.lote.rendas").getValor());
+        assertEquals(1, Metricas.contador("calendario.corpo.reforma").getValor());
+        assertEquals(12, Metricas.contador("calendario.corpo.cache").getValor());
+        assertEquals(1, Metricas.contador("senha.rejeicoes.caractere_especial").getValor());
+
+        StringBuilder texto = new StringBuilder();
+        Metricas.despejar(texto);
+        assertTrue(texto.toString().contains("calendario.corpo.cache 12\n"), texto.toString());
+        assertTrue(texto.toString().contains("irpf.faixa.5 n=1 "), texto.toString());
+    }
+
+    @Test
+    public void publicaMetricasViaJmx() throws JMException {
+        // Arrange (PREPARAR)
+        Metricas.contador("teste.jmx").incrementar();
+
+        // Act (AGIR)
+        Metricas.registrarJmx();
+        Metricas.registrarJmx();
+
+        // Assert (VERIFICAR)
+        Object valor = ManagementFactory.getPlatformMBeanServer()
+                .getAttribute(new ObjectName(Metricas.NOME_JMX), "teste.jmx");
+        assertEquals(1L, valor);
+    }
+}
@@ -2,9 +2,12 @@
 package br.edu.ifpr.teste.servico.calendario;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.YearMonth;
 import java.util.Calendar;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -31,7 +34,7 @@ public class TesteCalendario {
     
     @Test
 public void imprimeJaneiro2025() throws IOException {
-    Path path = Paths.get("src\\test\\resources\\calendario", "janeiro2025.txt");
+    Path path = Paths.get("src", "test", "resources", "calendario", "janeiro2025.txt");
     String saidaEsperada = Files.readString(path);
     saidaEsperada = saidaEsperada.replace("\r\n", "\n");
     
@@ -270,4 +273,65 @@ public void imprimeJaneiro2025() throws IOException {
         });
         assertNotNull(exception);
     }
-}
\ No newline at end of file
+    
+    // 8. Escrita direta em Appendable e ByteBuffer
+    @Test
+    public void testEscritaEmAppendableIgualString() throws IOException {
+        StringBuilder mes = new StringBuilder();
+        StringBuilder ano = new StringBuilder();
+        
+        calendario.escreverCalendario(3, 2024, mes);
+        calendario.escreverCalendario(1752, ano);
+        
+        assertEquals(calendario.getCalendario("3", "2024"), mes.toString());
+        assertEquals(calendario.getCalendario("1752"), ano.toString());
+    }
+    
+    @Test
+    public void testEscritaEmByteBufferIgualString() {
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        
+        calendario.escreverCalendario(2023, buffer);
+        buffer.flip();
+        
+        assertEquals(calendario.getCalendario("2023"), StandardCharsets.UTF_8.decode(buffer).toString());
+    }
+    
+    @Test
+    public void testEscritaComMesInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> calendario.escreverCalendario(13, 2023, new StringBuilder()));
+        assertThrows(IllegalArgumentException.class, () -> calendario.escreverCalendario(0, ByteBuffer.allocate(4096)));
+    }
+    
+    // 9. API com números e transição juliano-gregoriano
+    @Test
+    public void testApiNumericaIgualTexto() {
+        assertEquals(calendario.getCalendario("6", "2023"), calendario.getCalendario(6, 2023));
+        assertEquals(calendario.getCalendario("6", "2023"), calendario.getCalendario(YearMonth.of(2023, 6)));
+        assertEquals(calendario.getCalendario("1999"), calendario.getCalendario(1999));
+        assertThrows(IllegalArgumentException.class, () -> calendario.getCalendario(13, 2023));
+        assertThrows(IllegalArgumentException.class, () -> calendario.getCalendario(10000));
+        assertThrows(IllegalArgumentException.class, () -> calendario.getCalendario("+"));
+        assertThrows(IllegalArgumentException.class, () -> calendario.getCalendario("99999999999"));
+    }
+    
+    @Test
+    public void testReformaGregorianaCompleta() {
+        String esperado = "Setembro 1752\n" +
+                "Do Se Te Qa Qi Se Sa\n" +
+                "       1  2 14 15 16\n" +
+                "17 18 19 20 21 22 23\n" +
+                "24 25 26 27 28 29 30\n";
+        
+        assertEquals(esperado, calendario.getCalendario(9, 1752));
+    }
+    
+    @Test
+    public void testRegrasJulianasAntesDaReforma() {
+        // 1700 é bissexto no calendário juliano, 1800 não é no gregoriano
+        assertTrue(calendario.getCalendario(2, 1700).contains("29"));
+        assertFalse(calendario.getCalendario(2, 1800).contains("29"));
+        // 4 de outubro de 1582 (juliano) foi uma quinta-feira
+        assertTrue(calendario.getCalendario(10, 1582).contains("\n    1  2  3  4  5  6\n"));
+    }
+}
@@ -0,0 +1,79 @@
+package br.edu.ifpr.teste.servico.calendario;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import paranavai.calendario.Calendario;
+import paranavai.calendario.ExportadorCalendario;
+
+public class TesteExportadorCalendario {
+    
+    private final Calendario calendario = new Calendario();
+    
+    private String esperado(YearMonth inicio, YearMonth fim) {
+        StringBuilder sb = new StringBuilder();
+        for (YearMonth mes = inicio; !mes.isAfter(fim); mes = mes.plusMonths(1)) {
+            sb.append(calendario.getCalendario(String.valueOf(mes.getMonthValue()), String.valueOf(mes.getYear())));
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+    
+    @Test
+    public void exportaIntervaloEmParaleloNaOrdem() throws IOException {
+        // Arrange (PREPARAR)
+        ExportadorCalendario exportador = new ExportadorCalendario(calendario, 4);
+        YearMonth inicio = YearMonth.of(1700, 3);
+        YearMonth fim = YearMonth.of(2030, 11);
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        StringBuilder texto = new StringBuilder();
+        
+        // Act (AGIR)
+        exportador.exportarIntervalo(inicio, fim, saida);
+        exportador.exportarIntervalo(inicio, fim, texto);
+        
+        // Assert (VERIFICAR)
+        String esperado = esperado(inicio, fim);
+        assertEquals(esperado, new String(saida.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals(esperado, texto.toString());
+    }
+    
+    @Test
+    public void exportaUmArquivoPorAno(@TempDir Path diretorio) throws IOException {
+        // Arrange (PREPARAR)
+        ExportadorCalendario exportador = new ExportadorCalendario(calendario, 3);
+        
+        // Act (AGIR)
+        exportador.exportarPorAno(1750, 1760, diretorio);
+        
+        // Assert (VERIFICAR)
+        for (int ano = 1750; ano <= 1760; ano++) {
+            Path arquivo = diretorio.resolve(ExportadorCalendario.nomeArquivo(ano));
+            assertEquals(calendario.getCalendario(String.valueOf(ano)),
+                    new String(Files.readAllBytes(arquivo), StandardCharsets.UTF_8));
+        }
+        assertEquals("calendario-0042.txt", ExportadorCalendario.nomeArquivo(42));
+    }
+    
+    @Test
+    public void rejeitaIntervaloInvalido() {
+        // Arrange (PREPARAR)
+        ExportadorCalendario exportador = new ExportadorCalendario(calendario, 2);
+        
+        // Act (AGIR) e Assert (VERIFICAR)
+        assertThrows(IllegalArgumentException.class,
+                () -> exportador.exportarIntervalo(YearMonth.of(2025, 2), YearMonth.of(2025, 1), new StringBuilder()));
+        assertThrows(IllegalArgumentException.class,
+                () -> exportador.exportarIntervalo(YearMonth.of(9999, 1), YearMonth.of(10000, 1), new StringBuilder()));
+        assertThrows(IllegalArgumentException.class, () -> new ExportadorCalendario(calendario, 0));
+    }
+}
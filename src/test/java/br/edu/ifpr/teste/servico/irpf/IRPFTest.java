@@ -1,7 +1,12 @@
 package br.edu.ifpr.teste.servico.irpf;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.util.Random;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -182,4 +187,100 @@ public class IRPFTest {
         assertEquals(new BigDecimal("0.00"), imposto, 
                    "Renda de R$ 0,00 deve ser isenta");
     }
-}
\ No newline at end of file
+    
+    // Cálculo em centavos (long) deve ser idêntico ao BigDecimal em toda a faixa
+    @Test
+    public void testCentavosIgualBigDecimalCentavoACentavo() {
+        for (long centavos = 0; centavos <= 1_000_000; centavos++) {
+            BigDecimal esperado = calculadora.calcularIRPF(BigDecimal.valueOf(centavos, 2));
+            long imposto = calculadora.calcularIRPF(centavos);
+            
+            if (esperado.compareTo(BigDecimal.valueOf(imposto, 2)) != 0) {
+                assertEquals(esperado, BigDecimal.valueOf(imposto, 2), "Divergência para " + centavos + " centavos");
+            }
+        }
+        
+        for (long centavos : new long[] { 123_456_789L, 987_654_321_099L, 33_000_000_000_000_000L }) {
+            assertEquals(calculadora.calcularIRPF(BigDecimal.valueOf(centavos, 2)), BigDecimal.valueOf(calculadora.calcularIRPF(centavos), 2));
+        }
+    }
+    
+    @Test
+    public void testCentavosRendaNegativa() {
+        assertThrows(IllegalArgumentException.class, () -> calculadora.calcularIRPF(-1L));
+    }
+    
+    // Cálculo em lote deve ser igual ao cálculo individual
+    @Test
+    public void testLoteIgualCalculoIndividual() {
+        long[] rendas = new Random(10).longs(300_000, 0, 1_000_000).toArray();
+        long[] impostos = new long[rendas.length];
+        long[] impostosParalelo = new long[rendas.length];
+        
+        calculadora.calcularIRPF(rendas, impostos);
+        calculadora.calcularIRPFParalelo(rendas, impostosParalelo);
+        
+        for (int i = 0; i < rendas.length; i++) {
+            assertEquals(calculadora.calcularIRPF(rendas[i]), impostos[i], "Divergência para " + rendas[i] + " centavos");
+        }
+        assertArrayEquals(impostos, impostosParalelo, "Cálculo paralelo deve ser igual ao sequencial");
+    }
+    
+    @Test
+    public void testLoteBigDecimal() {
+        BigDecimal[] rendas = { new BigDecimal("2500.00"), new BigDecimal("7000"), new BigDecimal("4664.685") };
+        
+        BigDecimal[] impostos = calculadora.calcularIRPF(rendas);
+        
+        for (int i = 0; i < rendas.length; i++) {
+            assertEquals(calculadora.calcularIRPF(rendas[i]), impostos[i]);
+        }
+    }
+    
+    @Test
+    public void testLoteRendaNegativa() {
+        long[] rendas = { 100, -1, 200 };
+        
+        assertThrows(IllegalArgumentException.class, () -> calculadora.calcularIRPF(rendas, new long[rendas.length]));
+    }
+    
+    // Tabela escolhida pela competência
+    @Test
+    public void testCompetenciaSelecionaTabelaVigente() {
+        BigDecimal renda = new BigDecimal("3000.00");
+        
+        assertEquals(new BigDecimal("95.20"), calculadora.calcularIRPF(renda, YearMonth.of(2023, 4)));
+        assertEquals(new BigDecimal("79.60"), calculadora.calcularIRPF(renda, YearMonth.of(2023, 5)));
+        assertEquals(new BigDecimal("68.56"), calculadora.calcularIRPF(renda, YearMonth.of(2024, 3)));
+        assertEquals(new BigDecimal("55.84"), calculadora.calcularIRPF(renda, YearMonth.of(2025, 6)));
+        assertEquals(5584L, calculadora.calcularIRPF(300000L, YearMonth.of(2025, 6)));
+    }
+    
+    @Test
+    public void testCompetenciaSemTabelaVigente() {
+        assertThrows(IllegalArgumentException.class,
+            () -> calculadora.calcularIRPF(new BigDecimal("3000.00"), YearMonth.of(2010, 1)));
+    }
+    
+    // Todas as tabelas do histórico: cálculo em centavos igual ao BigDecimal
+    @Test
+    public void testCentavosIgualBigDecimalEmTodasAsTabelas() {
+        for (TabelaIRPF tabela : TabelasIRPF.padrao().getTabelas()) {
+            for (long centavos = 0; centavos <= 1_000_000; centavos += 7) {
+                BigDecimal esperado = tabela.calcular(BigDecimal.valueOf(centavos, 2));
+                if (esperado.compareTo(BigDecimal.valueOf(tabela.calcularCentavos(centavos), 2)) != 0) {
+                    assertEquals(esperado, BigDecimal.valueOf(tabela.calcularCentavos(centavos), 2),
+                            "Divergência para " + centavos + " centavos na tabela de " + tabela.getInicioVigencia());
+                }
+            }
+        }
+    }
+    
+    @Test
+    public void testArquivoDeTabelasInvalido() {
+        String conteudo = "2015-04-01;;1903.98;0;0\n2015-04-01;;2826.65;0.075;142.80\n";
+        
+        assertThrows(IllegalArgumentException.class,
+            () -> TabelasIRPF.carregar(new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8))));
+    }
+}
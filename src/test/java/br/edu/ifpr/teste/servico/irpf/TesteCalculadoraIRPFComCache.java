@@ -0,0 +1,70 @@
+package br.edu.ifpr.teste.servico.irpf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class TesteCalculadoraIRPFComCache {
+
+    private final CalculadoraIRPF semCache = new CalculadoraIRPF();
+
+    @Test
+    public void resultadosIguaisAosDaCalculadora() {
+        // Arrange (PREPARAR)
+        CalculadoraIRPFComCache calculadora = new CalculadoraIRPFComCache(1000);
+        String[] rendas = { "1320.00", "1320", "1320.0", "1320.000", "2826.66", "5000.005", "9999.99", "0" };
+
+        // Act (AGIR) e Assert (VERIFICAR)
+        for (int repeticao = 0; repeticao < 3; repeticao++) {
+            for (String renda : rendas) {
+                assertEquals(semCache.calcularIRPF(new BigDecimal(renda)), calculadora.calcularIRPF(new BigDecimal(renda)), renda);
+            }
+            assertEquals(semCache.calcularIRPF(752_345L), calculadora.calcularIRPF(752_345L));
+        }
+        assertThrows(IllegalArgumentException.class, () -> calculadora.calcularIRPF(new BigDecimal("-1.00")));
+    }
+
+    @Test
+    public void normalizaEscalaEContaAcertos() {
+        // Arrange (PREPARAR)
+        CalculadoraIRPFComCache calculadora = new CalculadoraIRPFComCache(100);
+
+        // Act (AGIR)
+        calculadora.calcularIRPF(new BigDecimal("3000.00"));
+        calculadora.calcularIRPF(new BigDecimal("3000"));
+        calculadora.calcularIRPF(new BigDecimal("3000.0000"));
+        calculadora.calcularIRPF(300_000L);
+        calculadora.calcularIRPF(300_000L);
+
+        // Assert (VERIFICAR) - o cálculo em centavos não passa pelo cache
+        assertEquals(1, calculadora.getFalhas());
+        assertEquals(2, calculadora.getAcertos());
+        assertEquals(2.0 / 3, calculadora.getTaxaAcerto(), 1e-9);
+        assertEquals(1, calculadora.getTamanho());
+        calculadora.limpar();
+        assertEquals(0, calculadora.getTamanho());
+        assertEquals(0, calculadora.getTaxaAcerto());
+    }
+
+    @Test
+    public void limitaTamanhoSobConcorrencia() {
+        // Arrange (PREPARAR)
+        CalculadoraIRPFComCache calculadora = new CalculadoraIRPFComCache(64);
+
+        // Act (AGIR)
+        IntStream.range(0, 200_000).parallel().forEach(i -> {
+            BigDecimal renda = BigDecimal.valueOf((i % 500) * 1_000L, 2);
+            assertEquals(semCache.calcularIRPF(renda), calculadora.calcularIRPF(renda));
+        });
+
+        // Assert (VERIFICAR)
+        assertTrue(calculadora.getTamanho() <= 64 + Runtime.getRuntime().availableProcessors() * 4,
+                "tamanho = " + calculadora.getTamanho());
+        assertEquals(200_000, calculadora.getAcertos() + calculadora.getFalhas());
+    }
+}
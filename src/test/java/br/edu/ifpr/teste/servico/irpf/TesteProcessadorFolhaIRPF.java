@@ -0,0 +1,128 @@
+package br.edu.ifpr.teste.servico.irpf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+public class TesteProcessadorFolhaIRPF {
+    
+    private static ByteArrayInputStream entrada(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    public void testCsvEnriquecidoComTotaisPorFaixa() throws Exception {
+        // Arrange (PREPARAR)
+        String csv = "nome;salario;setor\r\n"
+                + "Ana;1.000,00;RH\r\n"
+                + "\"Silva; Bruno\";\"2.500,00\";TI\r\n"
+                + "Carla;7000;TI\r\n"
+                + "Davi;4664,685;RH";
+        ProcessadorFolhaIRPF processador = new ProcessadorFolhaIRPF(TabelaIRPF.padrao(), "salario", ';', ',');
+        processador.setTamanhoLote(1);
+        processador.setThreads(3);
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        
+        // Act (AGIR)
+        ResumoFolhaIRPF resumo = processador.processar(entrada(csv), saida);
+        
+        // Assert (VERIFICAR)
+        assertEquals("nome;salario;setor;irpf\n"
+                + "Ana;1.000,00;RH;0,00\n"
+                + "\"Silva; Bruno\";\"2.500,00\";TI;44,70\n"
+                + "Carla;7000;TI;1055,64\n"
+                + "Davi;4664,685;RH;413,43\n", saida.toString(StandardCharsets.UTF_8.name()));
+        assertEquals(4, resumo.getQuantidadeTotal());
+        assertEquals(1, resumo.getQuantidade(0));
+        assertEquals(2, resumo.getQuantidade(4));
+        assertEquals(new BigDecimal("1469.07"), resumo.getTotalImpostos(4));
+    }
+    
+    @Test
+    public void testResultadoIgualCalculadoraEmArquivoGrande() throws Exception {
+        CalculadoraIRPF calculadora = new CalculadoraIRPF();
+        StringBuilder csv = new StringBuilder("id,renda\n");
+        StringBuilder esperado = new StringBuilder("id,renda,irpf\n");
+        for (int i = 0; i < 50_000; i++) {
+            BigDecimal renda = BigDecimal.valueOf(i * 17L, 2);
+            csv.append(i).append(',').append(renda).append('\n');
+            esperado.append(i).append(',').append(renda).append(',').append(calculadora.calcularIRPF(renda)).append('\n');
+        }
+        ProcessadorFolhaIRPF processador = new ProcessadorFolhaIRPF(TabelaIRPF.padrao(), "renda", ',', '.');
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        
+        processador.processar(entrada(csv.toString()), saida);
+        
+        assertEquals(esperado.toString(), saida.toString(StandardCharsets.UTF_8.name()));
+    }
+    
+    @Test
+    public void testRendaInvalidaInformaLinha() {
+        ProcessadorFolhaIRPF processador = new ProcessadorFolhaIRPF(TabelaIRPF.padrao(), "renda", ';', ',');
+        
+        Exception excecao = assertThrows(IllegalArgumentException.class,
+            () -> processador.processar(entrada("renda\n10,00\n-5,00\n"), new ByteArrayOutputStream()));
+        
+        assertTrue(excecao.getMessage().startsWith("Linha 3"), excecao.getMessage());
+    }
+    
+    @Test
+    public void testFaixaDaRendaComMaisCasasIgualAoImposto() throws Exception {
+        // Arrange (PREPARAR) - acima do limite da primeira faixa, mas arredonda para ele
+        ProcessadorFolhaIRPF processador = new ProcessadorFolhaIRPF(TabelaIRPF.padrao(), "renda", ';', ',');
+        
+        // Act (AGIR)
+        ResumoFolhaIRPF resumo = processador.processar(entrada("renda\n1903,984\n"), new ByteArrayOutputStream());
+        
+        // Assert (VERIFICAR)
+        assertEquals(0, resumo.getQuantidade(0));
+        assertEquals(1, resumo.getQuantidade(1));
+        assertEquals(new BigDecimal("1903.98"), resumo.getTotalRendas(1));
+    }
+    
+    @Test
+    public void testSeparadorDeMilharSoEntreGruposDeTres() throws Exception {
+        ProcessadorFolhaIRPF processador = new ProcessadorFolhaIRPF(TabelaIRPF.padrao(), "renda", ';', ',');
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        
+        processador.processar(entrada("renda\n12.345.678,90\n1.500\n-0\n"), saida);
+        
+        assertTrue(saida.toString(StandardCharsets.UTF_8.name()).startsWith("renda;irpf\n12.345.678,90;"));
+        for (String renda : new String[] { "1500.50", "1.5000,00", ".500,00", "1.500.", "15.00,00", "-1.50,00" }) {
+            Exception excecao = assertThrows(IllegalArgumentException.class,
+                () -> processador.processar(entrada("renda\n" + renda + "\n"), new ByteArrayOutputStream()), renda);
+            assertTrue(excecao.getMessage().startsWith("Linha 2"), excecao.getMessage());
+        }
+    }
+    
+    @Test
+    public void testSeparadorDeCamposMetacaractereDeRegex() throws Exception {
+        ProcessadorFolhaIRPF processador = new ProcessadorFolhaIRPF(TabelaIRPF.padrao(), "renda", '|', ',');
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        
+        processador.processar(entrada("nome|renda\nana|3000,00\n"), saida);
+        
+        assertEquals("nome|renda|irpf\nana|3000,00|95,20\n", saida.toString(StandardCharsets.UTF_8.name()));
+    }
+    
+    @Test
+    public void testTotaisComOSeparadorDecimalDoArquivo() throws Exception {
+        // Arrange (PREPARAR)
+        ProcessadorFolhaIRPF processador = new ProcessadorFolhaIRPF(TabelaIRPF.padrao(), "renda", ';', ',');
+        ResumoFolhaIRPF resumo = processador.processar(entrada("renda\n3000,00\n"), new ByteArrayOutputStream());
+        StringBuilder csv = new StringBuilder();
+        
+        // Act (AGIR)
+        resumo.escreverCsv(csv, ';');
+        
+        // Assert (VERIFICAR)
+        assertTrue(csv.toString().contains("\n3;1;3000,00;95,20\n"), csv.toString());
+    }
+}
@@ -0,0 +1,132 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TesteAgendadorOrdenacao {
+
+    private final ServicoOrdenacao servicoOrdenacao = new ServicoOrdenacao();
+
+    private static void gravar(Path arquivo, int[] numeros) throws IOException {
+        try (OutputStream saida = Files.newOutputStream(arquivo);
+                EscritorNumeros escritor = new EscritorNumeros(saida)) {
+            escritor.escreverQuantidade(numeros.length);
+            for (int numero : numeros) {
+                escritor.aceitar(numero);
+            }
+        }
+    }
+
+    @Test
+    public void deveOrdenarVariosArquivosDentroDoOrcamento(@TempDir Path diretorio) throws Exception {
+        // Arrange (PREPARAR) - 2 MiB de orçamento e tarefas de até ~1 MiB cada
+        long orcamento = 2L * 1024 * 1024;
+        Random aleatorio = new Random(25);
+        List<int[]> entradas = new ArrayList<>();
+        for (int i = 0; i < 24; i++) {
+            entradas.add(aleatorio.ints(aleatorio.nextInt(120_000), -1000, 1_000_000).toArray());
+            gravar(diretorio.resolve("entrada-" + i + ".txt"), entradas.get(i));
+        }
+
+        // Act (AGIR)
+        List<TarefaOrdenacao> tarefas = new ArrayList<>();
+        long pico;
+        try (AgendadorOrdenacao agendador = servicoOrdenacao.criarAgendador(orcamento, 4)) {
+            for (int i = 0; i < entradas.size(); i++) {
+                tarefas.add(agendador.submeter(diretorio.resolve("entrada-" + i + ".txt"),
+                        diretorio.resolve("saida-" + i + ".txt")));
+            }
+            for (TarefaOrdenacao tarefa : tarefas) {
+                tarefa.aguardar();
+            }
+            pico = agendador.getPicoMemoria();
+            assertEquals(0, agendador.getMemoriaEmUso());
+        }
+
+        // Assert (VERIFICAR)
+        assertTrue(pico > 0 && pico <= orcamento, "Pico de " + pico + " bytes fora do orçamento");
+        for (int i = 0; i < entradas.size(); i++) {
+            TarefaOrdenacao tarefa = tarefas.get(i);
+            int[] esperado = entradas.get(i).clone();
+            Arrays.sort(esperado);
+            assertEquals(TarefaOrdenacao.Estado.CONCLUIDA, tarefa.getEstado());
+            assertEquals(esperado.length, tarefa.getProcessados());
+            assertEquals(1.0, tarefa.getProgresso());
+            assertFalse(tarefa.isExterna());
+            assertArrayEquals(esperado, servicoOrdenacao.obterVetorArquivo(tarefa.getSaida()).paraArray());
+        }
+    }
+
+    @Test
+    public void deveOrdenarForaDaMemoriaEntradaMaiorQueOrcamento(@TempDir Path diretorio) throws Exception {
+        // Arrange (PREPARAR) - 300 mil números precisariam de ~2.4 MB em memória
+        int[] numeros = new Random(3).ints(300_000).toArray();
+        Path entrada = diretorio.resolve("grande.txt");
+        gravar(entrada, numeros);
+        long orcamento = 1024 * 1024;
+
+        // Act (AGIR)
+        TarefaOrdenacao tarefa;
+        try (AgendadorOrdenacao agendador = new AgendadorOrdenacao(orcamento, 2, diretorio, new SeletorAlgoritmo())) {
+            tarefa = agendador.submeter(entrada, diretorio.resolve("grande-ordenado.txt"));
+            assertEquals(numeros.length, tarefa.aguardar());
+        }
+
+        // Assert (VERIFICAR)
+        int[] esperado = numeros.clone();
+        Arrays.sort(esperado);
+        assertTrue(tarefa.isExterna());
+        assertTrue(tarefa.getMemoriaReservada() <= orcamento);
+        assertTrue(tarefa.getVazao() > 0);
+        assertArrayEquals(esperado, servicoOrdenacao.obterVetorArquivo(tarefa.getSaida()).paraArray());
+    }
+
+    @Test
+    public void deveIsolarFalhaDeUmaTarefa(@TempDir Path diretorio) throws Exception {
+        Path invalida = diretorio.resolve("invalida.txt");
+        Files.write(invalida, "3\n1\nx\n2\n".getBytes());
+        Path valida = diretorio.resolve("valida.txt");
+        gravar(valida, new int[] { 3, 1, 2 });
+
+        TarefaOrdenacao falha;
+        TarefaOrdenacao sucesso;
+        try (AgendadorOrdenacao agendador = servicoOrdenacao.criarAgendador(1024 * 1024, 1)) {
+            falha = agendador.submeter(invalida, diretorio.resolve("invalida-saida.txt"));
+            sucesso = agendador.submeter(valida, diretorio.resolve("valida-saida.txt"));
+            assertEquals(3, sucesso.aguardar());
+        }
+
+        ExecutionException erro = assertThrows(ExecutionException.class, falha::aguardar);
+        assertTrue(erro.getCause() instanceof NumberFormatException);
+        assertEquals(TarefaOrdenacao.Estado.FALHOU, falha.getEstado());
+        assertEquals("3\n1\n2\n3\n", new String(Files.readAllBytes(sucesso.getSaida())));
+        // A saída truncada da tarefa que falhou não fica no disco
+        assertFalse(Files.exists(diretorio.resolve("invalida-saida.txt")));
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            assertEquals(3, arquivos.count());
+        }
+    }
+
+    @Test
+    public void deveRejeitarOrcamentoPequeno() {
+        assertThrows(IllegalArgumentException.class, () -> servicoOrdenacao.criarAgendador(64 * 1024, 2));
+        assertThrows(IllegalArgumentException.class, () -> servicoOrdenacao.criarAgendador(1024 * 1024, 0));
+    }
+}
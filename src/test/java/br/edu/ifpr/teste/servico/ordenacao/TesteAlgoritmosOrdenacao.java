@@ -0,0 +1,79 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class TesteAlgoritmosOrdenacao {
+
+    private static final int TAMANHO = 300_000;
+
+    @ParameterizedTest
+    @ValueSource(strings = { "sequencial", "paralelo", "radix", "contagem", "automatico" })
+    public void deveOrdenarValoresAleatoriosFaixaEstreitaEQuaseOrdenados(String nome) {
+        AlgoritmoOrdenacao algoritmo = AlgoritmoOrdenacao.porNome(nome);
+        Random random = new Random(7);
+
+        int[] aleatorios = random.ints(TAMANHO).toArray();
+        int[] faixaEstreita = random.ints(TAMANHO, -1000, 1000).toArray();
+        int[] quaseOrdenados = new int[TAMANHO];
+        for (int i = 0; i < TAMANHO; i++) {
+            quaseOrdenados[i] = i % 5000 == 0 ? -i : i;
+        }
+
+        for (int[] dados : new int[][] { aleatorios, faixaEstreita, quaseOrdenados, { 3, 1, 2 }, {} }) {
+            int[] esperado = dados.clone();
+            Arrays.sort(esperado);
+            algoritmo.ordenar(dados, 0, dados.length);
+            assertArrayEquals(esperado, dados, "Falha no algoritmo " + nome);
+        }
+    }
+
+    @Test
+    public void deveOrdenarApenasOTrechoInformado() {
+        for (AlgoritmoOrdenacao algoritmo : new AlgoritmoOrdenacao[] { new OrdenacaoRadix(), new OrdenacaoParalela(4) }) {
+            int[] dados = new Random(3).ints(100_000).toArray();
+            int[] esperado = dados.clone();
+            Arrays.sort(esperado, 10_001, 90_000);
+
+            algoritmo.ordenar(dados, 10_001, 90_000);
+
+            assertArrayEquals(esperado, dados, "Falha no algoritmo " + algoritmo.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    public void deveOrdenarFaixasEstreitasEmQualquerPontoDaReta() {
+        Random random = new Random(9);
+        int[][] faixas = { { -100, 101 }, { 0xFF80, 0x10F80 }, { Integer.MIN_VALUE, Integer.MIN_VALUE + 1000 },
+                { Integer.MAX_VALUE - 1000, Integer.MAX_VALUE } };
+        for (int[] faixa : faixas) {
+            int[] dados = random.ints(100_000, faixa[0], faixa[1]).toArray();
+            int[] esperado = dados.clone();
+            Arrays.sort(esperado);
+
+            new OrdenacaoRadix().ordenar(dados, 0, dados.length);
+
+            assertArrayEquals(esperado, dados, "Faixa " + faixa[0] + ".." + faixa[1]);
+        }
+    }
+
+    @Test
+    public void deveEscolherRadixParaFaixaEstreita() {
+        int[] dados = new Random(1).ints(1 << 17, 0, 100).toArray();
+
+        assertTrue(new SeletorAlgoritmo().escolher(dados, 0, dados.length) instanceof OrdenacaoRadix);
+    }
+
+    @Test
+    public void deveRejeitarAlgoritmoDesconhecido() {
+        assertThrows(IllegalArgumentException.class, () -> AlgoritmoOrdenacao.porNome("bolha"));
+    }
+}
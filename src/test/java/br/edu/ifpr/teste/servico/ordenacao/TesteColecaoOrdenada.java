@@ -0,0 +1,98 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class TesteColecaoOrdenada {
+
+    private final ServicoOrdenacao servicoOrdenacao = new ServicoOrdenacao();
+
+    @Test
+    public void deveManterOrdemComLotesEValoresAvulsos() throws Exception {
+        // Arrange (PREPARAR)
+        ColecaoOrdenada colecao = servicoOrdenacao.criarColecaoOrdenada();
+        Random aleatorio = new Random(5);
+        VetorInteiros todos = new VetorInteiros();
+
+        // Act (AGIR)
+        for (int lote = 0; lote < 300; lote++) {
+            int[] valores = aleatorio.ints(aleatorio.nextInt(3000), -5000, 5000).toArray();
+            colecao.adicionarLote(valores, 0, valores.length);
+            for (int valor : valores) {
+                todos.adicionar(valor);
+            }
+            int avulso = aleatorio.nextInt();
+            colecao.adicionar(avulso);
+            todos.adicionar(avulso);
+        }
+
+        // Assert (VERIFICAR)
+        int[] esperado = todos.paraArray();
+        Arrays.sort(esperado);
+        VetorInteiros iterados = new VetorInteiros();
+        colecao.paraCada(iterados::adicionar);
+        assertArrayEquals(esperado, iterados.paraArray());
+        assertEquals(esperado.length, colecao.tamanho());
+        // Camadas: o número de rodadas cresce com o logaritmo do tamanho
+        assertTrue(colecao.getQuantidadeRodadas() <= 2 * (64 - Long.numberOfLeadingZeros(colecao.tamanho())),
+                "rodadas = " + colecao.getQuantidadeRodadas());
+    }
+
+    @Test
+    public void deveResponderPostoIntervaloEPosicao() {
+        // Arrange (PREPARAR)
+        ColecaoOrdenada colecao = new ColecaoOrdenada();
+        int[] valores = new Random(9).ints(20_000, -1000, 1000).toArray();
+        for (int i = 0; i < valores.length; i += 700) {
+            colecao.adicionarLote(valores, i, Math.min(i + 700, valores.length));
+        }
+        int[] ordenados = valores.clone();
+        Arrays.sort(ordenados);
+
+        // Act (AGIR) e Assert (VERIFICAR)
+        for (int valor = -1001; valor <= 1001; valor += 37) {
+            int esperado = 0;
+            while (esperado < ordenados.length && ordenados[esperado] < valor) {
+                esperado++;
+            }
+            assertEquals(esperado, colecao.posto(valor), "posto de " + valor);
+        }
+        for (int indice = 0; indice < ordenados.length; indice += 613) {
+            assertEquals(ordenados[indice], colecao.obter(indice));
+        }
+        int[] intervalo = Arrays.stream(ordenados).filter(v -> v >= -10 && v <= 25).toArray();
+        assertArrayEquals(intervalo, colecao.intervalo(-10, 25).paraArray());
+        assertEquals(intervalo.length, colecao.contarIntervalo(-10, 25));
+        assertEquals(0, colecao.contarIntervalo(5, 4));
+
+        colecao.compactar();
+        assertEquals(1, colecao.getQuantidadeRodadas());
+        assertEquals(ordenados[ordenados.length - 1], colecao.obter(ordenados.length - 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> colecao.obter(ordenados.length));
+    }
+
+    @Test
+    public void iteradorDeveFalharSeAColecaoMudar() {
+        // Arrange (PREPARAR)
+        ColecaoOrdenada colecao = new ColecaoOrdenada();
+        colecao.adicionarLote(VetorInteiros.de(3, 1, 2));
+        PrimitiveIterator.OfInt iterador = colecao.iterador();
+
+        // Act (AGIR)
+        int primeiro = iterador.nextInt();
+        colecao.adicionar(0);
+
+        // Assert (VERIFICAR)
+        assertEquals(1, primeiro);
+        assertThrows(ConcurrentModificationException.class, iterador::nextInt);
+    }
+}
@@ -0,0 +1,161 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TesteFormatoBinario {
+
+    private final ServicoOrdenacao servicoOrdenacao = new ServicoOrdenacao();
+
+    private static byte[] texto(int[] numeros) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        try (EscritorNumeros escritor = new EscritorNumeros(saida)) {
+            escritor.escreverQuantidade(numeros.length);
+            for (int numero : numeros) {
+                escritor.aceitar(numero);
+            }
+        }
+        return saida.toByteArray();
+    }
+
+    @Test
+    public void deveIrEVoltarDoFormatoTexto(@TempDir Path diretorio) throws Exception {
+        // Arrange (PREPARAR) - inclui os extremos, cuja diferença ocupa 32 bits
+        int[] numeros = new Random(24).ints(50_000, -1_000_000, 1_000_000).toArray();
+        numeros[0] = Integer.MIN_VALUE;
+        numeros[1] = Integer.MAX_VALUE;
+        byte[] entrada = texto(numeros);
+        Path binario = diretorio.resolve("dados.ordb");
+
+        // Act (AGIR)
+        long gravados = servicoOrdenacao.gravarBinario(new ByteArrayInputStream(entrada), binario);
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        servicoOrdenacao.converterBinarioParaTexto(binario, saida);
+
+        // Assert (VERIFICAR)
+        int[] esperado = numeros.clone();
+        Arrays.sort(esperado);
+        assertEquals(numeros.length, gravados);
+        assertArrayEquals(texto(esperado), saida.toByteArray());
+        assertTrue(Files.size(binario) < entrada.length / 3, "O binário deve ser bem menor que o texto");
+        try (LeitorOrdenadoBinario leitor = LeitorOrdenadoBinario.abrir(binario)) {
+            assertEquals(numeros.length, leitor.getQuantidade());
+            assertArrayEquals(esperado, leitor.lerVetor().paraArray());
+        }
+    }
+
+    @Test
+    public void deveGravarForaDaMemoria(@TempDir Path diretorio) throws Exception {
+        int[] numeros = new Random(7).ints(100_000).toArray();
+        Path binario = diretorio.resolve("externo.ordb");
+
+        servicoOrdenacao.gravarBinario(new ByteArrayInputStream(texto(numeros)), binario, 192 * 1024);
+
+        int[] esperado = numeros.clone();
+        Arrays.sort(esperado);
+        try (LeitorOrdenadoBinario leitor = LeitorOrdenadoBinario.abrir(binario)) {
+            assertArrayEquals(esperado, leitor.lerVetor().paraArray());
+        }
+    }
+
+    @Test
+    public void deveLerIntervaloPulandoBlocos(@TempDir Path diretorio) throws Exception {
+        // Arrange (PREPARAR) - 0, 2, 4, ..., em blocos de 100 valores
+        Path binario = diretorio.resolve("pares.ordb");
+        try (EscritorOrdenadoBinario escritor = new EscritorOrdenadoBinario(binario, 100)) {
+            for (int i = 0; i < 10_000; i++) {
+                escritor.aceitar(2 * i);
+            }
+            escritor.concluir();
+        }
+
+        // Act (AGIR)
+        VetorInteiros intervalo = new VetorInteiros();
+        int blocosLidos;
+        try (LeitorOrdenadoBinario leitor = LeitorOrdenadoBinario.abrir(binario)) {
+            assertEquals(100, leitor.getQuantidadeBlocos());
+            blocosLidos = leitor.lerIntervalo(5_001, 5_400, intervalo::adicionar);
+        }
+
+        // Assert (VERIFICAR)
+        assertEquals(200, intervalo.tamanho());
+        assertEquals(5_002, intervalo.obter(0));
+        assertEquals(5_400, intervalo.obter(199));
+        assertEquals(3, blocosLidos, "Apenas os blocos de 5000 a 5598 devem ser lidos");
+    }
+
+    @Test
+    public void deveGravarArquivoVazio(@TempDir Path diretorio) throws Exception {
+        Path binario = diretorio.resolve("vazio.ordb");
+        new EscritorOrdenadoBinario(binario).concluir();
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        servicoOrdenacao.converterBinarioParaTexto(binario, saida);
+
+        assertEquals("0\n", saida.toString());
+    }
+
+    @Test
+    public void deveRejeitarValoresForaDeOrdem(@TempDir Path diretorio) throws Exception {
+        try (EscritorOrdenadoBinario escritor = new EscritorOrdenadoBinario(diretorio.resolve("x.ordb"))) {
+            escritor.aceitar(3);
+            assertThrows(IllegalArgumentException.class, () -> escritor.aceitar(2));
+        }
+    }
+
+    @Test
+    public void deveRejeitarArquivoInvalido(@TempDir Path diretorio) throws Exception {
+        Path texto = diretorio.resolve("dados.txt");
+        Files.write(texto, "3\n1\n2\n3\n".getBytes());
+        Path truncado = diretorio.resolve("truncado.ordb");
+        try (EscritorOrdenadoBinario escritor = new EscritorOrdenadoBinario(truncado)) {
+            escritor.aceitar(1);
+            escritor.concluir();
+        }
+        byte[] bytes = Files.readAllBytes(truncado);
+        Files.write(truncado, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(IOException.class, () -> LeitorOrdenadoBinario.abrir(texto));
+        assertThrows(IOException.class, () -> LeitorOrdenadoBinario.abrir(truncado));
+    }
+
+    @Test
+    public void naoDeveDeixarArquivoQuandoEntradaFalha(@TempDir Path diretorio) throws Exception {
+        // Arrange (PREPARAR) - cabeçalho promete mais números do que há
+        Path binario = diretorio.resolve("falha.ordb");
+        byte[] entrada = "5\n3\n1\n2\n".getBytes();
+
+        // Act (AGIR) e Assert (VERIFICAR)
+        assertThrows(NumberFormatException.class,
+                () -> servicoOrdenacao.gravarBinario(new ByteArrayInputStream(entrada), binario, 192 * 1024));
+        assertFalse(Files.exists(binario), "Arquivo incompleto não deve ficar no destino");
+
+        try (EscritorOrdenadoBinario escritor = new EscritorOrdenadoBinario(binario)) {
+            escritor.aceitar(1);
+        }
+        assertFalse(Files.exists(binario), "Sem concluir(), o arquivo deve ser descartado");
+    }
+
+    @Test
+    public void deveLimitarValoresPorBloco(@TempDir Path diretorio) {
+        Path binario = diretorio.resolve("x.ordb");
+
+        assertThrows(IllegalArgumentException.class, () -> new EscritorOrdenadoBinario(binario, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new EscritorOrdenadoBinario(binario, EscritorOrdenadoBinario.MAXIMO_VALORES_POR_BLOCO + 1));
+    }
+}
@@ -0,0 +1,71 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TesteLeitorNumeros {
+
+    private final ServicoOrdenacao servicoOrdenacao = new ServicoOrdenacao();
+
+    private static InputStream entrada(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void deveLerFinaisDeLinhaESinais() throws Exception {
+        VetorInteiros vetor = servicoOrdenacao.obterVetorArquivo(
+                entrada("4\r\n-2147483648\r+2147483647\n007\r\n-0"));
+
+        assertArrayEquals(new int[] { Integer.MIN_VALUE, Integer.MAX_VALUE, 7, 0 }, vetor.paraArray());
+    }
+
+    @Test
+    public void deveLancarExcecaoParaLinhaInvalida() {
+        NumberFormatException excecao = assertThrows(NumberFormatException.class,
+                () -> servicoOrdenacao.obterVetorArquivo(entrada("2\n1\n12a\n")));
+
+        assertEquals("For input string: \"12a\"", excecao.getMessage());
+    }
+
+    @Test
+    public void deveLancarExcecaoParaEstouroOuLinhaVaziaOuAusente() {
+        assertThrows(NumberFormatException.class,
+                () -> servicoOrdenacao.obterVetorArquivo(entrada("1\n2147483648\n")));
+        assertThrows(NumberFormatException.class,
+                () -> servicoOrdenacao.obterVetorArquivo(entrada("2\n\n1\n")));
+        assertThrows(NumberFormatException.class,
+                () -> servicoOrdenacao.obterVetorArquivo(entrada("3\n1\n2\n")));
+        assertThrows(NumberFormatException.class,
+                () -> servicoOrdenacao.obterVetorArquivo(entrada("")));
+    }
+
+    @Test
+    public void deveLerArquivoMapeadoEmMemoria(@TempDir Path diretorio) throws Exception {
+        Path arquivo = diretorio.resolve("numeros.txt");
+        Files.write(arquivo, "3\n5\n4\n6".getBytes(StandardCharsets.US_ASCII));
+
+        VetorInteiros vetor = servicoOrdenacao.obterVetorArquivo(arquivo);
+
+        assertEquals("5, 4, 6", servicoOrdenacao.prepararParaImpressao(vetor));
+    }
+
+    @Test
+    public void deveFalharSemReservarMemoriaParaCabecalhoCorrompido(@TempDir Path diretorio) throws Exception {
+        Path arquivo = diretorio.resolve("corrompido.txt");
+        Files.write(arquivo, "2000000000\n1\n2\n".getBytes(StandardCharsets.US_ASCII));
+
+        assertThrows(NumberFormatException.class,
+                () -> servicoOrdenacao.obterVetorArquivo(entrada("2000000000\n1\n2\n")));
+        assertThrows(NumberFormatException.class, () -> servicoOrdenacao.obterVetorArquivo(arquivo));
+    }
+}
@@ -0,0 +1,165 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class TesteMapaBitsCompactado {
+
+    private final ServicoOrdenacao servicoOrdenacao = new ServicoOrdenacao();
+
+    private static InputStream entrada(int[] valores) {
+        StringBuilder sb = new StringBuilder().append(valores.length).append('\n');
+        for (int valor : valores) {
+            sb.append(valor).append('\n');
+        }
+        return new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Mistura grupos esparsos (arrays), densos (mapas de bits) e valores negativos
+    private static int[] valores(long semente) {
+        Random aleatorio = new Random(semente);
+        int[] valores = new int[60_000];
+        for (int i = 0; i < valores.length; i++) {
+            switch (i % 3) {
+                case 0:
+                    valores[i] = aleatorio.nextInt(20_000);
+                    break;
+                case 1:
+                    valores[i] = aleatorio.nextInt();
+                    break;
+                default:
+                    valores[i] = -70_000 + aleatorio.nextInt(3_000);
+            }
+        }
+        return valores;
+    }
+
+    private static int[] paraArray(TreeSet<Integer> conjunto) {
+        return conjunto.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Test
+    public void deveOrdenarDistintosComoUmConjuntoOrdenado() {
+        // Arrange (PREPARAR)
+        int[] valores = valores(1);
+        TreeSet<Integer> esperado = new TreeSet<>();
+        IntStream.of(valores).forEach(esperado::add);
+
+        // Act (AGIR)
+        VetorInteiros distintos = servicoOrdenacao.ordenarDistintos(VetorInteiros.de(valores));
+        MapaBitsCompactado mapa = MapaBitsCompactado.de(valores, 0, valores.length);
+
+        // Assert (VERIFICAR)
+        assertArrayEquals(paraArray(esperado), distintos.paraArray());
+        assertEquals(esperado.size(), mapa.cardinalidade());
+        assertTrue(mapa.contem(valores[7]));
+        assertFalse(mapa.adicionar(valores[7]));
+        assertEquals(esperado.contains(12_345), mapa.contem(12_345));
+        // Bem menos que os 4 bytes por valor de um int[]
+        assertTrue(mapa.bytesUsados() < 4L * valores.length, "bytes = " + mapa.bytesUsados());
+    }
+
+    @Test
+    public void deveCombinarDuasEntradas() throws Exception {
+        // Arrange (PREPARAR)
+        int[] a = valores(2);
+        int[] b = valores(3);
+        TreeSet<Integer> conjuntoA = new TreeSet<>();
+        TreeSet<Integer> conjuntoB = new TreeSet<>();
+        IntStream.of(a).forEach(conjuntoA::add);
+        IntStream.of(b).forEach(conjuntoB::add);
+
+        // Act (AGIR)
+        MapaBitsCompactado mapaA = servicoOrdenacao.obterMapaArquivo(entrada(a));
+        MapaBitsCompactado mapaB = servicoOrdenacao.obterMapaArquivo(entrada(b));
+
+        // Assert (VERIFICAR)
+        TreeSet<Integer> uniao = new TreeSet<>(conjuntoA);
+        uniao.addAll(conjuntoB);
+        TreeSet<Integer> intersecao = new TreeSet<>(conjuntoA);
+        intersecao.retainAll(conjuntoB);
+        TreeSet<Integer> diferenca = new TreeSet<>(conjuntoA);
+        diferenca.removeAll(conjuntoB);
+        assertArrayEquals(paraArray(uniao), mapaA.uniao(mapaB).paraVetor().paraArray());
+        assertArrayEquals(paraArray(intersecao), mapaA.intersecao(mapaB).paraVetor().paraArray());
+        assertArrayEquals(paraArray(diferenca), mapaA.diferenca(mapaB).paraVetor().paraArray());
+        assertTrue(mapaA.diferenca(mapaA).vazio());
+    }
+
+    @Test
+    public void deveCombinarGruposEsparsosSemPassarPorMapaDeBits() {
+        // Arrange (PREPARAR)
+        // Um valor por grupo de 2^16 em a e b; c mistura grupos densos e esparsos
+        int grupos = 1_000;
+        int[] a = new int[grupos];
+        int[] b = new int[grupos];
+        for (int g = 0; g < grupos; g++) {
+            a[g] = (g << 16) | 7;
+            b[g] = (g << 16) | (g % 2 == 0 ? 7 : 9);
+        }
+        int[] c = IntStream.range(0, 10_000).map(i -> i % 2 == 0 ? i : (i << 16) | 7).toArray();
+        TreeSet<Integer> conjuntoA = new TreeSet<>();
+        TreeSet<Integer> conjuntoC = new TreeSet<>();
+        IntStream.of(a).forEach(conjuntoA::add);
+        IntStream.of(c).forEach(conjuntoC::add);
+
+        // Act (AGIR)
+        MapaBitsCompactado mapaA = MapaBitsCompactado.de(a, 0, a.length);
+        MapaBitsCompactado mapaB = MapaBitsCompactado.de(b, 0, b.length);
+        MapaBitsCompactado mapaC = MapaBitsCompactado.de(c, 0, c.length);
+        MapaBitsCompactado uniao = mapaA.uniao(mapaB);
+
+        // Assert (VERIFICAR)
+        assertEquals(grupos + grupos / 2, uniao.cardinalidade());
+        assertEquals(grupos / 2, mapaA.intersecao(mapaB).cardinalidade());
+        assertEquals(grupos / 2, mapaA.diferenca(mapaB).cardinalidade());
+        // Um mapa de bits por grupo custaria 8 KiB cada
+        assertTrue(uniao.bytesUsados() < 64L * grupos, "bytes = " + uniao.bytesUsados());
+
+        TreeSet<Integer> uniaoAC = new TreeSet<>(conjuntoA);
+        uniaoAC.addAll(conjuntoC);
+        TreeSet<Integer> intersecaoAC = new TreeSet<>(conjuntoA);
+        intersecaoAC.retainAll(conjuntoC);
+        TreeSet<Integer> diferencaAC = new TreeSet<>(conjuntoA);
+        diferencaAC.removeAll(conjuntoC);
+        TreeSet<Integer> diferencaCA = new TreeSet<>(conjuntoC);
+        diferencaCA.removeAll(conjuntoA);
+        assertArrayEquals(paraArray(uniaoAC), mapaA.uniao(mapaC).paraVetor().paraArray());
+        assertArrayEquals(paraArray(uniaoAC), mapaC.uniao(mapaA).paraVetor().paraArray());
+        assertArrayEquals(paraArray(intersecaoAC), mapaA.intersecao(mapaC).paraVetor().paraArray());
+        assertArrayEquals(paraArray(intersecaoAC), mapaC.intersecao(mapaA).paraVetor().paraArray());
+        assertArrayEquals(paraArray(diferencaAC), mapaA.diferenca(mapaC).paraVetor().paraArray());
+        assertArrayEquals(paraArray(diferencaCA), mapaC.diferenca(mapaA).paraVetor().paraArray());
+    }
+
+    @Test
+    public void contagemComFaixaInformada() {
+        // Arrange (PREPARAR)
+        int[] dados = { 5, 3, 5, 9, 3, 3 };
+        int[] foraDaFaixa = { 5, 11, 6 };
+        OrdenacaoContagem contagem = new OrdenacaoContagem(0, 10);
+
+        // Act (AGIR)
+        contagem.ordenar(dados, 0, dados.length);
+
+        // Assert (VERIFICAR)
+        assertArrayEquals(new int[] { 3, 3, 3, 5, 5, 9 }, dados);
+        assertThrows(IllegalArgumentException.class, () -> contagem.ordenar(foraDaFaixa, 0, foraDaFaixa.length));
+        assertArrayEquals(new int[] { 5, 11, 6 }, foraDaFaixa);
+        assertThrows(IllegalArgumentException.class, () -> new OrdenacaoContagem(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertTrue(OrdenacaoContagem.densa(1000, 10));
+        assertFalse(OrdenacaoContagem.densa(1L << 32, Integer.MAX_VALUE));
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.io.InputStream;
+import java.io.StringWriter;
 import java.util.ArrayList;
 
 import org.junit.jupiter.api.Test;
@@ -36,4 +37,43 @@ public class TesteOrdenacao {
         assertEquals(saidaEsperada, saida, "Saída não está formatada corretamente");
     }
 
-}
\ No newline at end of file
+    @Test
+    public void deveOrdenarVetorPrimitivo() throws Exception {
+        // Arrange (PREPARAR)
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream("ordenacao/casoUm.txt");
+        assertNotNull(inputStream, "Arquivo casoUm.txt não encontrado em test/resources");
+
+        // Act (AGIR)
+        ServicoOrdenacao servicoOrdenacao = new ServicoOrdenacao();
+        VetorInteiros original = servicoOrdenacao.obterVetorArquivo(inputStream);
+        VetorInteiros ordenado = servicoOrdenacao.ordenar(original);
+
+        // Assert (VERIFICAR)
+        assertEquals("5, 4, 6", servicoOrdenacao.prepararParaImpressao(original), "Original não deve ser alterado");
+        assertEquals("4, 5, 6", servicoOrdenacao.prepararParaImpressao(ordenado), "Vetor não foi ordenado");
+    }
+
+    @Test
+    public void deveImprimirListaVaziaSemExcecao() {
+        ServicoOrdenacao servicoOrdenacao = new ServicoOrdenacao();
+
+        assertEquals("", servicoOrdenacao.prepararParaImpressao(new ArrayList<>()));
+    }
+
+    @Test
+    public void deveImprimirDiretoNoWriterEComoString() throws Exception {
+        // Arrange (PREPARAR)
+        ServicoOrdenacao servicoOrdenacao = new ServicoOrdenacao();
+        VetorInteiros vetor = VetorInteiros.de(Integer.MIN_VALUE, -10, 0, 9, 10, Integer.MAX_VALUE);
+        String esperado = "-2147483648, -10, 0, 9, 10, 2147483647";
+
+        // Act (AGIR)
+        StringWriter writer = new StringWriter();
+        servicoOrdenacao.imprimir(vetor, writer);
+
+        // Assert (VERIFICAR)
+        assertEquals(esperado, writer.toString());
+        assertEquals(esperado, servicoOrdenacao.prepararParaImpressao(vetor));
+    }
+
+}
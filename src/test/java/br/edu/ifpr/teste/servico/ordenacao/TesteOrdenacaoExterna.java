@@ -0,0 +1,81 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TesteOrdenacaoExterna {
+
+    @Test
+    public void deveOrdenarComVariasRodadasEPassadas(@TempDir Path diretorio) throws Exception {
+        // Arrange (PREPARAR) - 200 mil números e orçamento para 32 mil por rodada (com auxiliar e buffer)
+        int[] numeros = new Random(42).ints(200_000).toArray();
+        ByteArrayOutputStream entrada = new ByteArrayOutputStream();
+        try (EscritorNumeros escritor = new EscritorNumeros(entrada)) {
+            escritor.escreverQuantidade(numeros.length);
+            for (int numero : numeros) {
+                escritor.aceitar(numero);
+            }
+        }
+        OrdenacaoExterna ordenacao = new OrdenacaoExterna(320 * 1024, diretorio);
+
+        // Act (AGIR)
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        ordenacao.ordenar(new ByteArrayInputStream(entrada.toByteArray()), saida);
+
+        // Assert (VERIFICAR)
+        int[] esperado = numeros.clone();
+        Arrays.sort(esperado);
+        VetorInteiros ordenado = new ServicoOrdenacao().obterVetorArquivo(new ByteArrayInputStream(saida.toByteArray()));
+        assertArrayEquals(esperado, ordenado.paraArray());
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            assertEquals(0, arquivos.count(), "Arquivos temporários devem ser apagados");
+        }
+    }
+
+    @Test
+    public void deveOrdenarEntradaQueCabeNaMemoria() throws Exception {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        new ServicoOrdenacao().ordenarForaDaMemoria(new ByteArrayInputStream("3\n5\n4\n6".getBytes()), saida, 1 << 20);
+
+        assertEquals("3\n4\n5\n6\n", saida.toString());
+    }
+
+    @Test
+    public void deveOrdenarComOrcamentoMinimo(@TempDir Path diretorio) throws Exception {
+        // Arrange (PREPARAR) - o mínimo só comporta intercalação de duas vias
+        int[] numeros = new Random(11).ints(100_000).toArray();
+        ByteArrayOutputStream entrada = new ByteArrayOutputStream();
+        try (EscritorNumeros escritor = new EscritorNumeros(entrada)) {
+            escritor.escreverQuantidade(numeros.length);
+            for (int numero : numeros) {
+                escritor.aceitar(numero);
+            }
+        }
+
+        // Act (AGIR)
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        new OrdenacaoExterna(OrdenacaoExterna.ORCAMENTO_MINIMO, diretorio)
+                .ordenar(new ByteArrayInputStream(entrada.toByteArray()), saida);
+
+        // Assert (VERIFICAR)
+        int[] esperado = numeros.clone();
+        Arrays.sort(esperado);
+        VetorInteiros ordenado = new ServicoOrdenacao().obterVetorArquivo(new ByteArrayInputStream(saida.toByteArray()));
+        assertArrayEquals(esperado, ordenado.paraArray());
+        assertThrows(IllegalArgumentException.class,
+                () -> new OrdenacaoExterna(OrdenacaoExterna.ORCAMENTO_MINIMO - 1, diretorio));
+    }
+}
@@ -0,0 +1,154 @@
+package br.edu.ifpr.teste.servico.ordenacao;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class TesteSelecao {
+
+    private final ServicoOrdenacao servicoOrdenacao = new ServicoOrdenacao();
+
+    private static InputStream entrada(int[] valores) {
+        StringBuilder sb = new StringBuilder().append(valores.length).append('\n');
+        for (int valor : valores) {
+            sb.append(valor).append('\n');
+        }
+        return new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int[] aleatorios(int quantidade, int limite, long semente) {
+        Random aleatorio = new Random(semente);
+        int[] valores = new int[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            valores[i] = limite > 0 ? aleatorio.nextInt(limite) - limite / 2 : aleatorio.nextInt();
+        }
+        return valores;
+    }
+
+    @Test
+    public void deveSelecionarMenoresEMaioresSemOrdenarTudo() throws Exception {
+        // Arrange (PREPARAR)
+        int[] valores = aleatorios(50_000, 0, 1);
+        int[] ordenados = valores.clone();
+        Arrays.sort(ordenados);
+
+        // Act (AGIR)
+        VetorInteiros menores = servicoOrdenacao.menores(entrada(valores), 10);
+        VetorInteiros maiores = servicoOrdenacao.maiores(entrada(valores), 3);
+
+        // Assert (VERIFICAR)
+        assertArrayEquals(Arrays.copyOf(ordenados, 10), menores.paraArray());
+        int n = ordenados.length;
+        assertArrayEquals(new int[] { ordenados[n - 1], ordenados[n - 2], ordenados[n - 3] }, maiores.paraArray());
+        assertEquals(2, servicoOrdenacao.menores(entrada(new int[] { 5, 1 }), 10).tamanho());
+        assertEquals(0, servicoOrdenacao.maiores(entrada(valores), 0).tamanho());
+    }
+
+    @Test
+    public void devePegarOPostoMaisProximoSemErroDeArredondamento() {
+        // 1..n: o percentil p é o próprio posto ceil(p * n / 100)
+        assertEquals(7, servicoOrdenacao.percentil(VetorInteiros.de(IntStream.rangeClosed(1, 100).toArray()), 7));
+        assertEquals(7, servicoOrdenacao.percentil(VetorInteiros.de(IntStream.rangeClosed(1, 50).toArray()), 14));
+        for (int quantidade = 1; quantidade <= 1000; quantidade++) {
+            int[] valores = IntStream.rangeClosed(1, quantidade).toArray();
+            for (int p = 0; p <= 100; p++) {
+                int esperado = Math.max(1, (p * quantidade + 99) / 100);
+                assertEquals(esperado, SelecaoOrdem.percentil(valores, 0, quantidade, p), "p=" + p + ", n=" + quantidade);
+            }
+        }
+    }
+
+    @Test
+    public void deveCalcularPercentisEMedianaExatos() {
+        // Arrange (PREPARAR)
+        for (int limite : new int[] { 0, 10, 1_000 }) {
+            int[] valores = aleatorios(10_001, limite, limite);
+            VetorInteiros vetor = VetorInteiros.de(valores.clone());
+            int[] ordenados = valores.clone();
+            Arrays.sort(ordenados);
+
+            // Act (AGIR) e Assert (VERIFICAR)
+            assertEquals(ordenados[5000], servicoOrdenacao.mediana(vetor));
+            assertEquals(ordenados[0], servicoOrdenacao.percentil(vetor, 0));
+            assertEquals(ordenados[9900], servicoOrdenacao.percentil(vetor, 99));
+            assertEquals(ordenados[10_000], servicoOrdenacao.percentil(vetor, 100));
+            for (int posicao = 0; posicao < ordenados.length; posicao += 997) {
+                int[] copia = valores.clone();
+                assertEquals(ordenados[posicao], SelecaoOrdem.selecionar(copia, 0, copia.length, posicao));
+            }
+            // O vetor original não é alterado
+            assertArrayEquals(valores, vetor.paraArray());
+        }
+        assertEquals(2.5, servicoOrdenacao.mediana(VetorInteiros.de(4, 1, 3, 2)));
+        assertEquals(-1.5, servicoOrdenacao.mediana(VetorInteiros.de(Integer.MAX_VALUE, -3, 0, Integer.MIN_VALUE)), 1e-9);
+        assertThrows(NoSuchElementException.class, () -> servicoOrdenacao.mediana(new VetorInteiros()));
+    }
+
+    @Test
+    public void deveSelecionarEmEntradasAdversas() {
+        // Arrange (PREPARAR): ordenado, invertido e todos iguais
+        int n = 100_000;
+        int[] crescente = new int[n];
+        int[] decrescente = new int[n];
+        int[] iguais = new int[n];
+        for (int i = 0; i < n; i++) {
+            crescente[i] = i;
+            decrescente[i] = n - i;
+            iguais[i] = 7;
+        }
+
+        // Act (AGIR) e Assert (VERIFICAR)
+        assertEquals(n / 2, SelecaoOrdem.selecionar(crescente, 0, n, n / 2));
+        assertEquals(n / 2 + 1, SelecaoOrdem.selecionar(decrescente, 0, n, n / 2));
+        assertEquals(7, SelecaoOrdem.selecionar(iguais, 0, n, 123));
+        assertThrows(IndexOutOfBoundsException.class, () -> SelecaoOrdem.selecionar(iguais, 0, n, n));
+    }
+
+    @Test
+    public void esbocoAproximaQuantisComPoucaMemoria() throws Exception {
+        // Arrange (PREPARAR)
+        int n = 1_000_000;
+        int[] permutacao = new int[n];
+        for (int i = 0; i < n; i++) {
+            permutacao[i] = i;
+        }
+        Random aleatorio = new Random(42);
+        for (int i = n - 1; i > 0; i--) {
+            int j = aleatorio.nextInt(i + 1);
+            int temporario = permutacao[i];
+            permutacao[i] = permutacao[j];
+            permutacao[j] = temporario;
+        }
+        EsbocoQuantis esboco = new EsbocoQuantis(200, 7);
+
+        // Act (AGIR)
+        for (int valor : permutacao) {
+            esboco.aceitar(valor);
+        }
+
+        // Assert (VERIFICAR)
+        assertEquals(n, esboco.getQuantidade());
+        assertEquals(0, esboco.quantil(0));
+        assertEquals(n - 1, esboco.quantil(1));
+        for (double q : new double[] { 0.01, 0.25, 0.5, 0.75, 0.99 }) {
+            int estimado = esboco.quantil(q);
+            assertTrue(Math.abs(estimado - q * n) < 0.02 * n, "q=" + q + " estimado=" + estimado);
+        }
+        assertTrue(esboco.getItensGuardados() < 1_000, "itens = " + esboco.getItensGuardados());
+
+        EsbocoQuantis lido = servicoOrdenacao.esbocarQuantis(entrada(new int[] { 3, 1, 2 }), 50);
+        assertEquals(2, lido.mediana());
+        assertThrows(NoSuchElementException.class, () -> new EsbocoQuantis().mediana());
+    }
+}
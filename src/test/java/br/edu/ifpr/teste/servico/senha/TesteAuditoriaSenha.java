@@ -0,0 +1,85 @@
+package br.edu.ifpr.teste.servico.senha;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import br.edu.ifpr.teste.excecao.SenhaException;
+import br.edu.ifpr.teste.servico.ordenacao.ServicoSenha;
+import br.edu.ifpr.teste.utils.MensagemUtil;
+
+public class TesteAuditoriaSenha {
+
+    private final PoliticaSenha politica = new PoliticaSenha(8, PoliticaSenha.CARACTERES_ESPECIAIS_PADRAO,
+            RegraSenha.TAMANHO_MINIMO, RegraSenha.CARACTERE_ESPECIAL, RegraSenha.DIGITO);
+
+    private List<String> senhas(int quantidade) {
+        List<String> senhas = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            switch (i % 3) {
+                case 0:
+                    senhas.add("senhalonga");
+                    break;
+                case 1:
+                    senhas.add("Senha!12abcdef");
+                    break;
+                default:
+                    senhas.add("x");
+            }
+        }
+        return senhas;
+    }
+
+    @Test
+    public void avaliaLoteEmParaleloNaOrdem() {
+        // Arrange (PREPARAR)
+        AuditoriaSenha auditoria = new AuditoriaSenha(politica);
+        List<String> senhas = senhas(20000);
+
+        // Act (AGIR)
+        ResultadoValidacaoSenha[] resultados = auditoria.avaliar(senhas);
+
+        // Assert (VERIFICAR)
+        assertEquals(senhas.size(), resultados.length);
+        for (int i = 0; i < senhas.size(); i++) {
+            assertSame(politica.avaliar(senhas.get(i)), resultados[i]);
+        }
+    }
+
+    @Test
+    public void auditaFluxoSomandoTotais() {
+        // Arrange (PREPARAR)
+        AuditoriaSenha auditoria = new AuditoriaSenha(politica);
+        List<String> senhas = senhas(30000);
+
+        // Act (AGIR)
+        ResumoAuditoriaSenha resumo = auditoria.auditar(senhas.stream());
+
+        // Assert (VERIFICAR)
+        assertEquals(30000, resumo.getTotal());
+        assertEquals(10000, resumo.getValidas());
+        assertEquals(20000, resumo.getInvalidas());
+        assertEquals(20000, resumo.getViolacoes(RegraSenha.CARACTERE_ESPECIAL));
+        assertEquals(20000, resumo.getViolacoes(RegraSenha.DIGITO));
+        assertEquals(10000, resumo.getViolacoes(RegraSenha.TAMANHO_MINIMO));
+        assertEquals(10000, resumo.getQuantidade(ForcaSenha.FORTE));
+    }
+
+    @Test
+    public void excecaoSemPilhaMantemMensagem() {
+        // Arrange (PREPARAR)
+        ServicoSenha servico = new ServicoSenha(PoliticaSenha.padrao(), false);
+
+        // Act (AGIR)
+        SenhaException excecao = assertThrows(SenhaException.class, () -> servico.validar("Senha123"));
+
+        // Assert (VERIFICAR)
+        assertEquals(MensagemUtil.ERRO_SENHA_SEM_CARACTERE_ESPECIAL, excecao.getMessage());
+        assertEquals(0, excecao.getStackTrace().length);
+    }
+}
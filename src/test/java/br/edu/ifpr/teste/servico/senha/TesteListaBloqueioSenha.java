@@ -0,0 +1,95 @@
+package br.edu.ifpr.teste.servico.senha;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import br.edu.ifpr.teste.excecao.SenhaException;
+import br.edu.ifpr.teste.servico.ordenacao.ServicoSenha;
+import br.edu.ifpr.teste.utils.IndexadorListaBloqueio;
+import br.edu.ifpr.teste.utils.MensagemUtil;
+
+public class TesteListaBloqueioSenha {
+
+    @TempDir
+    Path diretorio;
+
+    private ListaBloqueioSenha criar(String conteudo) throws IOException {
+        Path arquivo = diretorio.resolve("lista.blq");
+        ListaBloqueioSenha.indexar(new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8)), arquivo, 0.01);
+        return ListaBloqueioSenha.abrir(arquivo);
+    }
+
+    @Test
+    public void encontraApenasSenhasDaLista() throws IOException {
+        // Arrange (PREPARAR)
+        StringBuilder conteudo = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            conteudo.append("vazada").append(i).append("\r\n");
+        }
+        conteudo.append("\nsenhação!\nvazada1\n");
+
+        // Act (AGIR)
+        ListaBloqueioSenha lista = criar(conteudo.toString());
+
+        // Assert (VERIFICAR)
+        assertEquals(20001, lista.getQuantidade());
+        for (int i = 0; i < 20000; i++) {
+            assertTrue(lista.contem("vazada" + i));
+            // A confirmação pelos hashes elimina os falsos positivos do filtro
+            assertFalse(lista.contem("segura" + i));
+        }
+        assertTrue(lista.contem("senhação!"));
+        assertFalse(lista.contem(""));
+    }
+
+    @Test
+    public void servicoRejeitaSenhaBloqueada() throws IOException, SenhaException {
+        // Arrange (PREPARAR)
+        ListaBloqueioSenha lista = criar("senha@123\nqwerty!\n");
+        ServicoSenha servico = new ServicoSenha(PoliticaSenha.padrao(), true, lista);
+
+        // Act (AGIR)
+        SenhaException excecao = assertThrows(SenhaException.class, () -> servico.validar("qwerty!"));
+        servico.validar("outra@senha");
+
+        // Assert (VERIFICAR)
+        assertEquals(MensagemUtil.ERRO_SENHA_BLOQUEADA, excecao.getMessage());
+        assertTrue(servico.avaliar("senha@123").violou(RegraSenha.LISTA_BLOQUEIO));
+        assertEquals(RegraSenha.CARACTERE_ESPECIAL, servico.avaliar("semespecial").getPrimeiraViolacao());
+    }
+
+    @Test
+    public void indexadorGeraArquivoERejeitaArquivoInvalido() throws IOException {
+        // Arrange (PREPARAR)
+        Path entrada = diretorio.resolve("senhas.txt");
+        Path saida = diretorio.resolve("senhas.blq");
+        Files.write(entrada, "123456\npassword\n123456\n".getBytes(StandardCharsets.UTF_8));
+        ByteArrayOutputStream texto = new ByteArrayOutputStream();
+        ByteArrayOutputStream erro = new ByteArrayOutputStream();
+
+        // Act (AGIR)
+        int codigo = IndexadorListaBloqueio.executar(new String[] { "--falsos-positivos=0.0001",
+                entrada.toString(), saida.toString() }, new PrintStream(texto, true, "UTF-8"), new PrintStream(erro, true, "UTF-8"));
+
+        // Assert (VERIFICAR)
+        assertEquals(0, codigo, erro.toString("UTF-8"));
+        assertTrue(texto.toString("UTF-8").startsWith("2 senhas distintas"));
+        assertTrue(ListaBloqueioSenha.abrir(saida).contem("password"));
+        assertEquals(2, IndexadorListaBloqueio.executar(new String[] { entrada.toString() },
+                new PrintStream(texto, true, "UTF-8"), new PrintStream(erro, true, "UTF-8")));
+        assertThrows(IOException.class, () -> ListaBloqueioSenha.abrir(entrada));
+    }
+}
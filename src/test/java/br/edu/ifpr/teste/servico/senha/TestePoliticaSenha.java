@@ -0,0 +1,77 @@
+package br.edu.ifpr.teste.servico.senha;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.Test;
+
+import br.edu.ifpr.teste.excecao.SenhaException;
+import br.edu.ifpr.teste.servico.ordenacao.ServicoSenha;
+import br.edu.ifpr.teste.utils.MensagemUtil;
+
+public class TestePoliticaSenha {
+
+    private final PoliticaSenha completa = new PoliticaSenha(10, "!@#$%^&*§",
+            RegraSenha.TAMANHO_MINIMO, RegraSenha.CARACTERE_ESPECIAL, RegraSenha.DIGITO,
+            RegraSenha.MAIUSCULA, RegraSenha.MINUSCULA);
+
+    @Test
+    public void relataTodasAsViolacoesDeUmaVez() {
+        // Arrange (PREPARAR)
+        String senha = "abc";
+
+        // Act (AGIR)
+        ResultadoValidacaoSenha resultado = completa.avaliar(senha);
+
+        // Assert (VERIFICAR)
+        assertFalse(resultado.isValida());
+        assertEquals(EnumSet.of(RegraSenha.TAMANHO_MINIMO, RegraSenha.CARACTERE_ESPECIAL,
+                RegraSenha.DIGITO, RegraSenha.MAIUSCULA), resultado.getViolacoes());
+        assertEquals(RegraSenha.TAMANHO_MINIMO, resultado.getPrimeiraViolacao());
+        assertEquals(ForcaSenha.FRACA, resultado.getForca());
+    }
+
+    @Test
+    public void classificaForca() {
+        // Arrange (PREPARAR) e Act (AGIR)
+        ResultadoValidacaoSenha forte = completa.avaliar("Abcdef123456!");
+        ResultadoValidacaoSenha media = completa.avaliar("Abcdef12");
+        ResultadoValidacaoSenha estendida = completa.avaliar("Ação§Ñ12345x");
+
+        // Assert (VERIFICAR)
+        assertTrue(forte.isValida());
+        assertEquals(ForcaSenha.FORTE, forte.getForca());
+        assertEquals(MensagemUtil.SENHA_FORTE, forte.getForca().getMensagem());
+        assertEquals(ForcaSenha.MEDIA, media.getForca());
+        assertTrue(estendida.isValida(), estendida.toString());
+    }
+
+    @Test
+    public void servicoUsaPrimeiraViolacaoDaPolitica() {
+        // Arrange (PREPARAR)
+        ServicoSenha servico = new ServicoSenha(completa);
+
+        // Act (AGIR)
+        Exception excecao = assertThrows(SenhaException.class, () -> servico.validar("Abcdefghij!"));
+
+        // Assert (VERIFICAR)
+        assertEquals(MensagemUtil.ERRO_SENHA_SEM_DIGITO, excecao.getMessage());
+    }
+
+    @Test
+    public void politicaPadraoExigeApenasCaractereEspecial() throws SenhaException {
+        // Arrange (PREPARAR)
+        ServicoSenha servico = new ServicoSenha();
+
+        // Act (AGIR)
+        servico.validar("a!");
+
+        // Assert (VERIFICAR)
+        assertTrue(servico.avaliar("x&").isValida());
+        assertEquals(EnumSet.of(RegraSenha.CARACTERE_ESPECIAL), servico.avaliar("Senha123").getViolacoes());
+    }
+}
@@ -0,0 +1,72 @@
+package br.edu.ifpr.teste.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TesteMain {
+
+    @Test
+    public void deveOrdenarVariosArquivosEmUmaExecucao(@TempDir Path diretorio) throws Exception {
+        // Arrange (PREPARAR)
+        Path primeiro = diretorio.resolve("um.txt");
+        Path segundo = diretorio.resolve("dois.txt");
+        Files.write(primeiro, "3\n5\n4\n6".getBytes(StandardCharsets.US_ASCII));
+        Files.write(segundo, "2\n-1\n-7\n".getBytes(StandardCharsets.US_ASCII));
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        ByteArrayOutputStream erro = new ByteArrayOutputStream();
+
+        // Act (AGIR)
+        int codigo = Main.executar(new String[] { "--algoritmo=radix", "--stats", primeiro.toString(), segundo.toString() },
+                new ByteArrayInputStream(new byte[0]), new PrintStream(saida), new PrintStream(erro, true, "UTF-8"));
+
+        // Assert (VERIFICAR)
+        assertEquals(0, codigo);
+        assertEquals("4, 5, 6\n-7, -1\n", saida.toString());
+        assertTrue(erro.toString("UTF-8").contains("3 números"), "Deve imprimir as estatísticas de cada arquivo");
+    }
+
+    @Test
+    public void deveLerEntradaPadraoComOrcamentoDeMemoria() {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        int codigo = Main.executar(new String[] { "--memoria=1M" },
+                new ByteArrayInputStream("3\n5\n4\n6".getBytes(StandardCharsets.US_ASCII)),
+                new PrintStream(saida), new PrintStream(new ByteArrayOutputStream()));
+
+        assertEquals(0, codigo);
+        assertEquals("4, 5, 6\n", saida.toString());
+    }
+
+    @Test
+    public void deveImprimirValoresDistintos() {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        int codigo = Main.executar(new String[] { "--distintos" },
+                new ByteArrayInputStream("6\n5\n-4\n5\n70000\n-4\n5".getBytes(StandardCharsets.US_ASCII)),
+                new PrintStream(saida), new PrintStream(new ByteArrayOutputStream()));
+
+        assertEquals(0, codigo);
+        assertEquals("-4, 5, 70000\n", saida.toString());
+    }
+
+    @Test
+    public void deveRejeitarOpcaoInvalida() throws Exception {
+        ByteArrayOutputStream erro = new ByteArrayOutputStream();
+
+        int codigo = Main.executar(new String[] { "--threads=zero" }, new ByteArrayInputStream(new byte[0]),
+                new PrintStream(new ByteArrayOutputStream()), new PrintStream(erro, true, "UTF-8"));
+
+        assertEquals(2, codigo);
+        assertTrue(erro.toString("UTF-8").startsWith("Valor inválido"));
+    }
+}